@@ -0,0 +1,96 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.entity.AqlQueryExplainEntity;
+import com.arangodb.entity.CursorWarning;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The execution plan of an {@link AqlQuery} chosen by the query optimizer of the server, as returned by the explain
+ * API, see {@link ArangoDBGraphClient#explain(AqlQuery)}.
+ */
+public final class AqlExplanation {
+
+    private final AqlQuery query;
+    private final List<String> nodes = new ArrayList<>();
+    private final List<Map<String, Object>> indexes = new ArrayList<>();
+    private final List<String> rules = new ArrayList<>();
+    private final List<String> warnings = new ArrayList<>();
+    private final Double estimatedCost;
+
+    @SuppressWarnings("unchecked")
+    AqlExplanation(AqlQuery query, AqlQueryExplainEntity explain) {
+        this.query = query;
+        AqlQueryExplainEntity.ExecutionPlan plan = explain.getPlan();
+        for (AqlQueryExplainEntity.ExecutionNode node : plan.getNodes()) {
+            nodes.add((String) node.get("type"));
+            // index nodes, traversals and joins report the indexes they use
+            Object used = node.get("indexes");
+            if (used instanceof Collection) {
+                ((Collection<?>) used).stream()
+                        .filter(Map.class::isInstance)
+                        .forEach(it -> indexes.add((Map<String, Object>) it));
+            }
+        }
+        if (null != plan.getRules()) {
+            rules.addAll(plan.getRules());
+        }
+        if (null != explain.getWarnings()) {
+            explain.getWarnings().stream().map(CursorWarning::getMessage).forEach(warnings::add);
+        }
+        estimatedCost = plan.getEstimatedCost();
+    }
+
+    public AqlQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * @return the types of the execution nodes of the plan, e.g. {@code EnumerateCollectionNode} for a full scan or
+     * {@code IndexNode} for an index lookup
+     */
+    public List<String> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * @return the indexes used by the plan, each with its {@code name}, {@code type} and {@code fields}, among others
+     */
+    public List<Map<String, Object>> getIndexes() {
+        return Collections.unmodifiableList(indexes);
+    }
+
+    /**
+     * @return the optimizer rules applied to the plan
+     */
+    public List<String> getRules() {
+        return Collections.unmodifiableList(rules);
+    }
+
+    public List<String> getWarnings() {
+        return Collections.unmodifiableList(warnings);
+    }
+
+    /**
+     * @return the cost of the plan estimated by the optimizer
+     */
+    public Double getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    @Override
+    public String toString() {
+        return "AqlExplanation{" +
+                "query=" + query +
+                ", nodes=" + nodes +
+                ", indexes=" + indexes +
+                ", rules=" + rules +
+                ", estimatedCost=" + estimatedCost +
+                ", warnings=" + warnings +
+                '}';
+    }
+}
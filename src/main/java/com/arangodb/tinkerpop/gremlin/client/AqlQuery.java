@@ -0,0 +1,44 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An AQL query string together with its bind parameters, as generated by {@link ArangoDBQueryBuilder}.
+ */
+public final class AqlQuery {
+
+    private final String query;
+    private final Map<String, Object> bindVars;
+
+    public AqlQuery(String query, Map<String, Object> bindVars) {
+        this.query = query;
+        this.bindVars = Collections.unmodifiableMap(bindVars);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public Map<String, Object> getBindVars() {
+        return bindVars;
+    }
+
+    @Override
+    public String toString() {
+        return query + " " + bindVars;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof AqlQuery)) return false;
+        AqlQuery that = (AqlQuery) o;
+        return Objects.equals(query, that.query) && Objects.equals(bindVars, that.bindVars);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, bindVars);
+    }
+}
@@ -10,16 +10,25 @@ package com.arangodb.tinkerpop.gremlin.client;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.arangodb.*;
 import com.arangodb.entity.*;
+import com.arangodb.entity.arangosearch.SearchAliasIndex;
 import com.arangodb.internal.ArangoDefaults;
 import com.arangodb.internal.serde.ContentTypeFactory;
 import com.arangodb.model.*;
+import com.arangodb.model.arangosearch.SearchAliasCreateOptions;
+import com.arangodb.model.arangosearch.SearchAliasPropertiesOptions;
 import com.arangodb.serde.jackson.JacksonMapperProvider;
 import com.arangodb.serde.jackson.JacksonSerde;
 import com.arangodb.tinkerpop.gremlin.persistence.*;
+import com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity;
 import com.arangodb.tinkerpop.gremlin.structure.*;
 import com.arangodb.tinkerpop.gremlin.utils.AqlDeserializer;
 import com.arangodb.util.RawBytes;
@@ -27,8 +36,14 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,23 +54,59 @@ public class ArangoDBGraphClient {
 
     protected final ArangoDatabase db;
 
+    /**
+     * Non-blocking view of {@link #db}, sharing its connections.
+     */
+    protected final ArangoDatabaseAsync dbAsync;
+
     protected final ArangoDBGraphConfig config;
 
     private final AqlDeserializer aqlDeserializer;
 
+    private final ObjectMapper mapper;
+
+    /**
+     * Vector and unique indexes of each collection, read when first needed and updated when this client creates
+     * vector indexes, see {@link #getVectorIndexes} and {@link #isUniquelyIndexed}.
+     */
+    private final Map<String, CollectionIndexes> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Metrics of the profiled step running queries on the current thread, if any, see {@link #profiled}.
+     */
+    private final ThreadLocal<MutableMetrics> profiledMetrics = new ThreadLocal<>();
+
+    /**
+     * Cursor options of the graph, set by its configuration.
+     */
+    private final CursorOptions cursorOptions;
+
+    /**
+     * Cursor options of the traversal running queries on the current thread, if any, see {@link #profiled}.
+     */
+    private final ThreadLocal<CursorOptions> traversalCursorOptions = new ThreadLocal<>();
+
     public ArangoDBGraphClient(ArangoDBGraphConfig config, ElementIdFactory idFactory, ArangoDBGraph graph) {
         logger.debug("Initiating the ArangoDb Client");
         this.config = config;
+        cursorOptions = new CursorOptions()
+                .stream(config.queryStream)
+                .batchSize(config.queryBatchSize)
+                .ttl(config.queryTtl)
+                .fillBlockCache(config.queryFillBlockCache)
+                .memoryLimit(config.queryMemoryLimit);
         Protocol protocol = config.driverConfig.getProtocol()
                 .orElse(ArangoDefaults.DEFAULT_PROTOCOL);
         ObjectMapper mapper = JacksonMapperProvider.of(ContentTypeFactory.of(protocol))
                 .registerModule(createSerdeModule(idFactory));
+        this.mapper = mapper;
         aqlDeserializer = new AqlDeserializer(graph, mapper);
-        db = new ArangoDB.Builder()
+        ArangoDB arango = new ArangoDB.Builder()
                 .loadProperties(config.driverConfig)
                 .serde(JacksonSerde.create(mapper))
-                .build()
-                .db(config.dbName);
+                .build();
+        db = arango.db(config.dbName);
+        dbAsync = arango.async().db(config.dbName);
     }
 
     private Module createSerdeModule(ElementIdFactory idFactory) {
@@ -92,6 +143,211 @@ public class ArangoDBGraphClient {
         }
     }
 
+    /**
+     * Create the inverted indexes of the properties searched by text and the ArangoSearch views over them, see
+     * {@link ArangoDBGraphConfig#vertexSearchProperties} and {@link ArangoDBGraphConfig#edgeSearchProperties}.
+     * Indexes of previously configured properties are replaced.
+     */
+    public void ensureSearchViews() {
+        ensureSearchView(config.vertexSearchView, config.vertices, config.vertexSearchProperties, true);
+        ensureSearchView(config.edgeSearchView, config.edges, config.edgeSearchProperties, false);
+    }
+
+    private void ensureSearchView(String name, Set<String> collections, Set<String> properties, boolean vertex) {
+        if (properties.isEmpty()) {
+            return;
+        }
+        logger.debug("Ensure search view {} of properties {}", name, properties);
+        // vertex properties are stored as {value, properties}, edge properties as plain values
+        Set<String> fields = properties.stream()
+                .map(it -> "properties." + it + (vertex ? ".value" : ""))
+                .collect(Collectors.toCollection(TreeSet::new));
+        try {
+            List<SearchAliasIndex> indexes = new ArrayList<>();
+            for (String collection : collections) {
+                ArangoCollection col = db.collection(collection);
+                for (InvertedIndexEntity index : col.getInvertedIndexes()) {
+                    Set<String> indexFields = index.getFields().stream()
+                            .map(InvertedIndexField::getName)
+                            .collect(Collectors.toSet());
+                    if (name.equals(index.getName()) && !fields.equals(indexFields)) {
+                        col.deleteIndex(index.getId());
+                    }
+                }
+                col.ensureInvertedIndex(new InvertedIndexOptions()
+                        .name(name)
+                        .fields(fields.stream().map(it -> new InvertedIndexField().name(it)).toArray(InvertedIndexField[]::new)));
+                indexes.add(new SearchAliasIndex(collection, name));
+            }
+            SearchAlias view = db.searchAlias(name);
+            if (view.exists()) {
+                view.replaceProperties(new SearchAliasPropertiesOptions().indexes(indexes.toArray(new SearchAliasIndex[0])));
+            } else {
+                db.createSearchAlias(name, new SearchAliasCreateOptions().indexes(indexes.toArray(new SearchAliasIndex[0])));
+            }
+        } catch (ArangoDBException e) {
+            logger.error("Failed to create search view", e);
+            throw mapException(e);
+        }
+    }
+
+    /**
+     * Create the geo indexes of the point properties, see {@link ArangoDBGraphConfig#vertexGeoProperties} and
+     * {@link ArangoDBGraphConfig#edgeGeoProperties}.
+     */
+    public void ensureGeoIndexes() {
+        ensureGeoIndexes(config.vertices, config.vertexGeoProperties, true);
+        ensureGeoIndexes(config.edges, config.edgeGeoProperties, false);
+    }
+
+    private void ensureGeoIndexes(Set<String> collections, Set<String> properties, boolean vertex) {
+        for (String property : properties) {
+            String field = "properties." + property + (vertex ? ".value" : "");
+            logger.debug("Ensure geo index of {} in {}", field, collections);
+            for (String collection : collections) {
+                try {
+                    db.collection(collection).ensureGeoIndex(Collections.singleton(field), new GeoIndexOptions().geoJson(true));
+                } catch (ArangoDBException e) {
+                    logger.error("Failed to create geo index", e);
+                    throw mapException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a vector index of a vertex property in each vertex collection, see
+     * {@link ArangoDBGraph#createVertexVectorIndex(String, VectorSimilarity.Metric, int, int)}.
+     */
+    public void createVertexVectorIndexes(String key, VectorSimilarity.Metric metric, int dimension, int nLists) {
+        createVectorIndexes(config.vertices, "properties." + key + ".value", metric, dimension, nLists);
+    }
+
+    /**
+     * Create a vector index of an edge property in each edge collection, see
+     * {@link ArangoDBGraph#createEdgeVectorIndex(String, VectorSimilarity.Metric, int, int)}.
+     */
+    public void createEdgeVectorIndexes(String key, VectorSimilarity.Metric metric, int dimension, int nLists) {
+        createVectorIndexes(config.edges, "properties." + key, metric, dimension, nLists);
+    }
+
+    private void createVectorIndexes(Set<String> collections, String field, VectorSimilarity.Metric metric, int dimension, int nLists) {
+        logger.debug("Create {} vector index of {} in {}", metric, field, collections);
+        Map<String, Object> params = new HashMap<>();
+        params.put("metric", metric.getName());
+        params.put("dimension", dimension);
+        params.put("nLists", nLists);
+        Map<String, Object> index = new HashMap<>();
+        index.put("type", "vector");
+        index.put("fields", Collections.singletonList(field));
+        index.put("params", params);
+        // the driver has no dedicated api for vector indexes
+        for (String collection : collections) {
+            try {
+                db.arango().execute(Request.builder()
+                        .db(db.name())
+                        .method(Request.Method.POST)
+                        .path("/_api/index")
+                        .queryParam("collection", collection)
+                        .body(index)
+                        .build(), RawBytes.class);
+            } catch (ArangoDBException e) {
+                logger.error("Failed to create vector index", e);
+                throw mapException(e);
+            } finally {
+                indexes.remove(collection);
+            }
+        }
+    }
+
+    /**
+     * Get the vector indexes of the given collections. Indexes created by other clients after the first lookup are
+     * not used, which only costs exact evaluations, while dropping indexes requires a new client.
+     *
+     * @param collections the collections
+     * @param vertex      whether the collections are vertex collections
+     * @return the metrics of the vector indexes existing in all the collections, by property key
+     */
+    private Map<String, VectorSimilarity.Metric> getVectorIndexes(Set<String> collections, boolean vertex) {
+        Map<String, VectorSimilarity.Metric> common = null;
+        for (String collection : collections) {
+            Map<String, VectorSimilarity.Metric> vector = indexes.computeIfAbsent(collection, this::readIndexes).vector;
+            if (null == common) {
+                common = new HashMap<>(vector);
+            } else {
+                common.entrySet().retainAll(vector.entrySet());
+            }
+        }
+        Map<String, VectorSimilarity.Metric> byKey = new HashMap<>();
+        String suffix = vertex ? ".value" : "";
+        if (null != common) {
+            common.forEach((field, metric) -> {
+                if (field.startsWith("properties.") && field.endsWith(suffix) && field.length() > "properties.".length() + suffix.length()) {
+                    byKey.put(field.substring("properties.".length(), field.length() - suffix.length()), metric);
+                }
+            });
+        }
+        return byKey;
+    }
+
+    /**
+     * Whether a unique persistent index of the given collection covers exactly the given fields, so that at most one
+     * document matches given values of them. As for vector indexes, indexes created by other clients after the first
+     * lookup are not used, see {@link #getVectorIndexes}.
+     *
+     * @param collection the collection
+     * @param fields     the document fields, e.g. {@code label} or {@code properties.name.value}
+     * @return whether the fields are uniquely indexed
+     */
+    public boolean isUniquelyIndexed(String collection, Set<String> fields) {
+        return indexes.computeIfAbsent(collection, this::readIndexes).unique.contains(fields);
+    }
+
+    private CollectionIndexes readIndexes(String collection) {
+        logger.debug("Read indexes of {}", collection);
+        CollectionIndexes result = new CollectionIndexes();
+        try {
+            // the driver cannot deserialize vector indexes
+            RawBytes body = db.arango().execute(Request.builder()
+                    .db(db.name())
+                    .method(Request.Method.GET)
+                    .path("/_api/index")
+                    .queryParam("collection", collection)
+                    .build(), RawBytes.class).getBody();
+            for (JsonNode index : mapper.readTree(body.get()).path("indexes")) {
+                String type = index.path("type").asText();
+                if ("persistent".equals(type) && index.path("unique").asBoolean() && !index.path("sparse").asBoolean()) {
+                    Set<String> fields = new HashSet<>();
+                    index.path("fields").forEach(it -> fields.add(it.asText()));
+                    result.unique.add(fields);
+                } else if ("vector".equals(type) && index.path("fields").size() == 1) {
+                    String metric = index.path("params").path("metric").asText();
+                    Arrays.stream(VectorSimilarity.Metric.values())
+                            .filter(it -> it.getName().equals(metric))
+                            .findFirst()
+                            .ifPresent(it -> result.vector.put(index.path("fields").get(0).asText(), it));
+                }
+            }
+        } catch (ArangoDBException e) {
+            logger.error("Failed to read indexes", e);
+            throw mapException(e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return result;
+    }
+
+    private static final class CollectionIndexes {
+        /**
+         * Metrics of the vector indexes, by indexed field.
+         */
+        private final Map<String, VectorSimilarity.Metric> vector = new HashMap<>();
+        /**
+         * Fields of the unique persistent indexes, sparse ones excluded since they do not index missing values.
+         */
+        private final Set<Set<String>> unique = new HashSet<>();
+    }
+
     public VariablesData getGraphVariables() {
         logger.debug("Get graph variables");
         try {
@@ -150,9 +406,307 @@ public class ArangoDBGraphClient {
         return getGraphDocuments(ids, config.edges, EdgeData.class);
     }
 
+    /**
+     * Get vertices of a graph matching the query. If no ids are provided, all vertices are considered.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching vertices
+     * @return the documents
+     */
+    public Iterator<VertexData> getGraphVertices(List<ElementId> ids, DocumentQuery query) {
+        logger.debug("Get {} graph vertices, filtered by ids: {}, query: {}", config.graphName, ids, query);
+        return getGraphDocuments(ids, query, config.vertices, VertexData.class);
+    }
+
+    /**
+     * Get edges of a graph matching the query. If no ids are provided, all edges are considered.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching edges
+     * @return the documents
+     */
+    public Iterator<EdgeData> getGraphEdges(List<ElementId> ids, DocumentQuery query) {
+        logger.debug("Get {} graph edges, filtered by ids: {}, query: {}", config.graphName, ids, query);
+        return getGraphDocuments(ids, query, config.edges, EdgeData.class);
+    }
+
+    /**
+     * Count the vertices of a graph matching the query. If no ids are provided, all vertices are considered.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching vertices
+     * @return the number of matching vertices
+     */
+    public long countGraphVertices(List<ElementId> ids, DocumentQuery query) {
+        logger.debug("Count {} graph vertices, filtered by ids: {}, query: {}", config.graphName, ids, query);
+        return countGraphDocuments(ids, query, config.vertices);
+    }
+
+    /**
+     * Count the edges of a graph matching the query. If no ids are provided, all edges are considered.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching edges
+     * @return the number of matching edges
+     */
+    public long countGraphEdges(List<ElementId> ids, DocumentQuery query) {
+        logger.debug("Count {} graph edges, filtered by ids: {}, query: {}", config.graphName, ids, query);
+        return countGraphDocuments(ids, query, config.edges);
+    }
+
+    /**
+     * Remove the vertices of a graph matching the query, together with their edges, with a single AQL query. If no
+     * ids are provided, all vertices are considered: without filters all the vertex and edge collections are then
+     * truncated.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching vertices
+     */
+    public void dropGraphVertices(List<ElementId> ids, DocumentQuery query) {
+        logger.debug("Drop {} graph vertices, filtered by ids: {}, query: {}", config.graphName, ids, query);
+        if (ids.isEmpty() && query.getFilters().isEmpty() && !query.hasRange()) {
+            truncateCollections(config.edges);
+            truncateCollections(config.vertices);
+        } else {
+            dropGraphDocuments(ids, query, config.vertices, config.edges);
+        }
+    }
+
+    /**
+     * Remove the edges of a graph matching the query with a single AQL query. If no ids are provided, all edges are
+     * considered: without filters all the edge collections are then truncated.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching edges
+     */
+    public void dropGraphEdges(List<ElementId> ids, DocumentQuery query) {
+        logger.debug("Drop {} graph edges, filtered by ids: {}, query: {}", config.graphName, ids, query);
+        if (ids.isEmpty() && query.getFilters().isEmpty() && !query.hasRange()) {
+            truncateCollections(config.edges);
+        } else {
+            dropGraphDocuments(ids, query, config.edges, Collections.emptySet());
+        }
+    }
+
+    /**
+     * Set properties of the vertices of a graph matching the query with a single AQL query. If no ids are provided,
+     * all vertices are considered.
+     *
+     * @param ids        the ids to match
+     * @param query      the query to evaluate on the matching vertices
+     * @param properties the properties to set
+     * @param returnNew  whether to return the updated vertices
+     * @return the updated vertices, or an empty iterator if not returned
+     */
+    public Iterator<VertexData> updateGraphVertices(List<ElementId> ids, DocumentQuery query, Map<String, VertexPropertyData> properties, boolean returnNew) {
+        logger.debug("Update {} graph vertices, filtered by ids: {}, query: {}, properties: {}", config.graphName, ids, query, properties);
+        return updateGraphDocuments(ids, query, properties, returnNew, config.vertices, VertexData.class);
+    }
+
+    /**
+     * Set properties of the edges of a graph matching the query with a single AQL query. If no ids are provided, all
+     * edges are considered.
+     *
+     * @param ids        the ids to match
+     * @param query      the query to evaluate on the matching edges
+     * @param properties the properties to set
+     * @param returnNew  whether to return the updated edges
+     * @return the updated edges, or an empty iterator if not returned
+     */
+    public Iterator<EdgeData> updateGraphEdges(List<ElementId> ids, DocumentQuery query, Map<String, Object> properties, boolean returnNew) {
+        logger.debug("Update {} graph edges, filtered by ids: {}, query: {}, properties: {}", config.graphName, ids, query, properties);
+        return updateGraphDocuments(ids, query, properties, returnNew, config.edges, EdgeData.class);
+    }
+
+    /**
+     * Group the vertices of a graph matching the query. If no ids are provided, all vertices are considered.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching vertices
+     * @param group the grouping
+     * @return the reduced value of each group
+     */
+    public Map<Object, Object> groupGraphVertices(List<ElementId> ids, DocumentQuery query, GroupQuery group) {
+        logger.debug("Group {} graph vertices, filtered by ids: {}, query: {}, grouping: {}", config.graphName, ids, query, group);
+        return groupGraphDocuments(ids, query, group, config.vertices);
+    }
+
+    /**
+     * Group the edges of a graph matching the query. If no ids are provided, all edges are considered.
+     *
+     * @param ids   the ids to match
+     * @param query the query to evaluate on the matching edges
+     * @param group the grouping
+     * @return the reduced value of each group
+     */
+    public Map<Object, Object> groupGraphEdges(List<ElementId> ids, DocumentQuery query, GroupQuery group) {
+        logger.debug("Group {} graph edges, filtered by ids: {}, query: {}, grouping: {}", config.graphName, ids, query, group);
+        return groupGraphDocuments(ids, query, group, config.edges);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Map<Object, Object> groupGraphDocuments(List<ElementId> ids, DocumentQuery query, GroupQuery group, Set<String> colNames) {
+        Map<Object, Object> groups = new HashMap<>();
+        AqlQuery aqlQuery = compileGraphQuery(ids, query, colNames, (c, i, q) -> ArangoDBQueryBuilder.groupDocuments(c, i, q, group));
+        if (null == aqlQuery) {
+            return groups;
+        }
+        executeAqlQuery(aqlQuery, List.class)
+                .forEach(it -> groups.put(it.get(0), it.get(1)));
+        return groups;
+    }
+
+    private long countGraphDocuments(List<ElementId> ids, DocumentQuery query, Set<String> colNames) {
+        AqlQuery aqlQuery = compileGraphQuery(ids, query, colNames, ArangoDBQueryBuilder::countDocuments);
+        if (null == aqlQuery) {
+            return 0L;
+        }
+        return executeAqlQuery(aqlQuery, Long.class).next();
+    }
+
+    private void dropGraphDocuments(List<ElementId> ids, DocumentQuery query, Set<String> colNames, Set<String> edgeCollections) {
+        AqlQuery aqlQuery = compileGraphQuery(ids, query, colNames, false, (c, i, q) -> ArangoDBQueryBuilder.removeDocuments(c, i, q, edgeCollections));
+        if (null == aqlQuery) {
+            return;
+        }
+        long count = executeAqlQuery(aqlQuery, Long.class).next();
+        logger.debug("Dropped {} documents", count);
+    }
+
+    private <V> Iterator<V> updateGraphDocuments(List<ElementId> ids, DocumentQuery query, Map<String, ?> properties,
+                                                 boolean returnNew, Set<String> colNames, Class<V> clazz) {
+        AqlQuery update = compileGraphQuery(ids, query, colNames, false, (c, i, q) -> ArangoDBQueryBuilder.updateDocuments(c, i, q, properties, returnNew));
+        if (null == update) {
+            return Collections.emptyIterator();
+        }
+        if (returnNew) {
+            return executeAqlQuery(update, clazz);
+        }
+        long count = executeAqlQuery(update, Long.class).next();
+        logger.debug("Updated {} documents", count);
+        return Collections.emptyIterator();
+    }
+
+    private void truncateCollections(Set<String> collections) {
+        for (String collection : collections) {
+            try {
+                db.collection(collection).truncate();
+            } catch (ArangoDBException e) {
+                logger.error("Failed to truncate collection", e);
+                throw mapException(e);
+            }
+        }
+    }
+
+    private <V> Iterator<V> getGraphDocuments(List<ElementId> ids, DocumentQuery query, Set<String> colNames, Class<V> clazz) {
+        AqlQuery aqlQuery = compileGraphQuery(ids, query, colNames, ArangoDBQueryBuilder::readDocuments);
+        if (null == aqlQuery) {
+            return Collections.emptyIterator();
+        }
+        return executeAqlQuery(aqlQuery.getQuery(), clazz, aqlQuery.getBindVars(), ids.isEmpty() && !query.hasRange());
+    }
+
+    /**
+     * Compile an AQL query over the vertices of a graph matching the query, without executing it, e.g. to explain it.
+     * If no ids are provided, all vertices are considered.
+     *
+     * @param ids     the ids to match
+     * @param query   the query to evaluate on the matching vertices
+     * @param builder the builder of the query, e.g. {@link ArangoDBQueryBuilder#readDocuments}
+     * @return the query, or {@code null} if no vertex can match
+     */
+    public AqlQuery compileGraphVerticesQuery(List<ElementId> ids, DocumentQuery query, DocumentsQueryBuilder builder) {
+        return compileGraphQuery(ids, query, config.vertices, builder);
+    }
+
+    /**
+     * Compile an AQL query over the edges of a graph matching the query, without executing it, e.g. to explain it.
+     * If no ids are provided, all edges are considered.
+     *
+     * @param ids     the ids to match
+     * @param query   the query to evaluate on the matching edges
+     * @param builder the builder of the query, e.g. {@link ArangoDBQueryBuilder#readDocuments}
+     * @return the query, or {@code null} if no edge can match
+     */
+    public AqlQuery compileGraphEdgesQuery(List<ElementId> ids, DocumentQuery query, DocumentsQueryBuilder builder) {
+        return compileGraphQuery(ids, query, config.edges, builder);
+    }
+
+    private AqlQuery compileGraphQuery(List<ElementId> ids, DocumentQuery query, Set<String> colNames, DocumentsQueryBuilder builder) {
+        return compileGraphQuery(ids, query, colNames, true, builder);
+    }
+
+    /**
+     * @param search whether text filters can be evaluated with the ArangoSearch view of the graph, which is eventually
+     *               consistent, so that mutations filter the collections instead to see the latest changes
+     */
+    private AqlQuery compileGraphQuery(List<ElementId> ids, DocumentQuery query, Set<String> colNames, boolean search,
+                                       DocumentsQueryBuilder builder) {
+        Set<String> collections = getQueryCollections(colNames, search ? withSearch(query) : query);
+        List<ElementId> prunedIds = ids.stream()
+                .filter(it -> collections.contains(it.getCollection()))
+                .collect(Collectors.toList());
+        if (collections.isEmpty() || (!ids.isEmpty() && prunedIds.isEmpty())) {
+            return null;
+        }
+        if (ArangoDBQueryBuilder.isApproximable(prunedIds, query)) {
+            query.vectorIndexes(getVectorIndexes(collections, query.isVertexQuery()));
+        }
+        return builder.build(collections, prunedIds, query);
+    }
+
+    /**
+     * Explain an AQL query with the query optimizer of the server, without executing it.
+     *
+     * @param query the query
+     * @return the execution plan chosen by the optimizer
+     */
+    public AqlExplanation explain(AqlQuery query) {
+        logger.debug("Explaining AQL query: {}", query);
+        try {
+            AqlQueryExplainEntity explain = db.explainAqlQuery(query.getQuery(), query.getBindVars(), new ExplainAqlQueryOptions());
+            return new AqlExplanation(query, explain);
+        } catch (ArangoDBException e) {
+            logger.error("Error explaining query", e);
+            throw mapException(e);
+        }
+    }
+
+    /**
+     * Let the builder evaluate text filters on searched properties with the ArangoSearch view of the graph.
+     */
+    private DocumentQuery withSearch(DocumentQuery query) {
+        return query.isVertexQuery() ?
+                query.search(config.vertexSearchView, config.vertexSearchProperties, config.searchWaitForSync) :
+                query.search(config.edgeSearchView, config.edgeSearchProperties, config.searchWaitForSync);
+    }
+
+    /**
+     * In COMPLEX graphs the label of an element determines its collection, so label filters restrict the collections
+     * to query.
+     */
+    private Set<String> getQueryCollections(Set<String> colNames, DocumentQuery query) {
+        if (config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
+            return colNames;
+        }
+        Set<String> collections = new HashSet<>(colNames);
+        for (HasContainer container : query.getFilters()) {
+            if (container.getKey().equals(T.label.getAccessor())
+                    && (container.getBiPredicate() == Compare.eq || container.getBiPredicate() == Contains.within)) {
+                Object value = container.getValue();
+                Collection<?> labels = value instanceof Collection ? (Collection<?>) value : Collections.singleton(value);
+                collections.retainAll(labels.stream()
+                        .map(it -> config.prefix + it)
+                        .collect(Collectors.toSet()));
+            }
+        }
+        return collections;
+    }
+
     private <V> ArangoIterable<V> getGraphDocuments(List<ElementId> ids, Set<String> colNames, Class<V> clazz) {
         if (ids.isEmpty()) {
-            return executeAqlQuery(ArangoDBQueryBuilder.readAllDocuments(colNames), clazz);
+            AqlQuery query = ArangoDBQueryBuilder.readAllDocuments(colNames);
+            return executeAqlQuery(query.getQuery(), clazz, query.getBindVars(), true);
         } else {
             List<ElementId> prunedIds = ids.stream()
                     .filter(it -> colNames.contains(it.getCollection()))
@@ -202,20 +756,226 @@ public class ArangoDBGraphClient {
         return IteratorUtils.map(res, aqlDeserializer::deserialize);
     }
 
+    /**
+     * Run the query without blocking, see {@link #execute(String, Map)}.
+     *
+     * @param query      the query
+     * @param parameters the bind parameters
+     * @return the future results, read from all the batches of the cursor
+     */
+    public CompletableFuture<List<Object>> executeAsync(final String query, final Map<String, Object> parameters) {
+        logger.debug("Executing AQL query asynchronously: {}, with parameters: {}", query, parameters);
+        return executeAqlQueryAsync(new AqlQuery(query, parameters), RawBytes.class)
+                .thenApply(res -> res.stream().map(aqlDeserializer::deserialize).collect(Collectors.toList()));
+    }
+
     private <V> ArangoCursor<V> executeAqlQuery(String query, Class<V> type) {
         return executeAqlQuery(query, type, null);
     }
 
+    private <V> ArangoCursor<V> executeAqlQuery(AqlQuery query, Class<V> type) {
+        return executeAqlQuery(query.getQuery(), type, query.getBindVars());
+    }
+
     private <V> ArangoCursor<V> executeAqlQuery(String query, Class<V> type, Map<String, Object> parameters) {
+        return executeAqlQuery(query, type, parameters, false);
+    }
+
+    /**
+     * @param scan whether the query is an unbounded scan of the collections, which is streamed by default
+     */
+    private <V> ArangoCursor<V> executeAqlQuery(String query, Class<V> type, Map<String, Object> parameters, boolean scan) {
         logger.debug("Executing AQL query: {}", query);
+        MutableMetrics metrics = profiledMetrics.get();
         try {
-            return db.query(query, type, parameters);
+            ArangoCursor<V> cursor = db.query(query, type, parameters, queryOptions(metrics, scan));
+            if (null != metrics) {
+                recordQueryMetrics(metrics, query, cursor.getStats(), cursor.isCached());
+            }
+            return cursor;
         } catch (ArangoDBException e) {
             logger.error("Error executing query", e);
             throw mapException(e);
         }
     }
 
+    /**
+     * Run the query without blocking and read all the batches of its cursor. As for blocking queries, the stats of the
+     * query are recorded in the metrics of the profiled step running on the current thread, if any.
+     *
+     * @param query the query
+     * @param type  the type of the results
+     * @return the future results
+     */
+    private <V> CompletableFuture<List<V>> executeAqlQueryAsync(AqlQuery query, Class<V> type) {
+        logger.debug("Executing AQL query asynchronously: {}", query.getQuery());
+        MutableMetrics metrics = profiledMetrics.get();
+        CompletableFuture<List<V>> result = dbAsync.query(query.getQuery(), type, query.getBindVars(), queryOptions(metrics, false))
+                .thenCompose(cursor -> readBatches(cursor, new ArrayList<>(), null))
+                .thenApply(read -> {
+                    if (null != metrics && null != read.extra) {
+                        recordQueryMetrics(metrics, query.getQuery(), read.extra.getStats(), read.cached);
+                    }
+                    return read.results;
+                });
+        return mapExceptionAsync(result, "Error executing query");
+    }
+
+    private static <V> CompletableFuture<CursorResults<V>> readBatches(ArangoCursorAsync<V> cursor, List<V> results,
+                                                                       CursorEntity.Extras extra) {
+        results.addAll(cursor.getResult());
+        // stream cursors report the stats with the last batch, other cursors with the first one
+        CursorEntity.Extras last = null != cursor.getExtra() && null != cursor.getExtra().getStats() ? cursor.getExtra() : extra;
+        if (!Boolean.TRUE.equals(cursor.hasMore())) {
+            return CompletableFuture.completedFuture(new CursorResults<>(results, last, Boolean.TRUE.equals(cursor.isCached())));
+        }
+        return cursor.nextBatch().thenCompose(next -> readBatches(next, results, last));
+    }
+
+    private static final class CursorResults<V> {
+        private final List<V> results;
+        private final CursorEntity.Extras extra;
+        private final boolean cached;
+
+        private CursorResults(List<V> results, CursorEntity.Extras extra, boolean cached) {
+            this.results = results;
+            this.extra = extra;
+            this.cached = cached;
+        }
+    }
+
+    private AqlQueryOptions queryOptions(MutableMetrics metrics, boolean scan) {
+        AqlQueryOptions options = new AqlQueryOptions();
+        if (null != metrics && config.profileQueries) {
+            // level 2 adds the stats of each execution node, which the boolean option does not allow
+            options.customOption("profile", 2);
+        } else if (config.usePlanCache) {
+            options.customOption("usePlanCache", true);
+        }
+        // streamed cursors only report their stats with the last batch, after they are recorded for profiled steps
+        cursorOptions.merge(traversalCursorOptions.get()).applyTo(options, scan && null == metrics);
+        return options;
+    }
+
+    /**
+     * Run the queries of a step of a profiled traversal, e.g. {@code g.V().out().profile()}, recording the execution
+     * stats of each AQL query, i.e. the {@code extra.stats} of its cursor, as metrics nested in the metrics of the
+     * step. Queries with the same AQL are aggregated, summing their stats, except the peak memory usage, which is the
+     * maximum.
+     *
+     * @param metrics the metrics of the step, or {@code null} if the traversal is not profiled
+     * @param queries the queries to run
+     * @return the result of the queries
+     */
+    public <R> R profiled(MutableMetrics metrics, Supplier<R> queries) {
+        return profiled(metrics, null, queries);
+    }
+
+    /**
+     * Run the queries of a step, see {@link #profiled(MutableMetrics, Supplier)}, with the cursor options set on its
+     * traversal, which override the ones of the graph.
+     *
+     * @param metrics the metrics of the step, or {@code null} if the traversal is not profiled
+     * @param options the cursor options of the traversal, or {@code null} if none
+     * @param queries the queries to run
+     * @return the result of the queries
+     */
+    public <R> R profiled(MutableMetrics metrics, CursorOptions options, Supplier<R> queries) {
+        if (null == metrics && null == options) {
+            return queries.get();
+        }
+        MutableMetrics outerMetrics = profiledMetrics.get();
+        CursorOptions outerOptions = traversalCursorOptions.get();
+        if (null != metrics) {
+            profiledMetrics.set(metrics);
+        }
+        if (null != options) {
+            traversalCursorOptions.set(options);
+        }
+        try {
+            return queries.get();
+        } finally {
+            restore(profiledMetrics, outerMetrics);
+            restore(traversalCursorOptions, outerOptions);
+        }
+    }
+
+    private static <T> void restore(ThreadLocal<T> local, T value) {
+        if (null == value) {
+            local.remove();
+        } else {
+            local.set(value);
+        }
+    }
+
+    /**
+     * Run the queries of a step of a profiled traversal, see {@link #profiled(MutableMetrics, Supplier)}.
+     *
+     * @param metrics the metrics of the step, or {@code null} if the traversal is not profiled
+     * @param queries the queries to run
+     */
+    public void profiled(MutableMetrics metrics, Runnable queries) {
+        profiled(metrics, null, queries);
+    }
+
+    /**
+     * Run the queries of a step, see {@link #profiled(MutableMetrics, CursorOptions, Supplier)}.
+     *
+     * @param metrics the metrics of the step, or {@code null} if the traversal is not profiled
+     * @param options the cursor options of the traversal, or {@code null} if none
+     * @param queries the queries to run
+     */
+    public void profiled(MutableMetrics metrics, CursorOptions options, Runnable queries) {
+        profiled(metrics, options, () -> {
+            queries.run();
+            return null;
+        });
+    }
+
+    private static void recordQueryMetrics(MutableMetrics metrics, String query, CursorStats stats, Boolean cached) {
+        if (null == stats) {
+            return;
+        }
+        String id = metrics.getId() + ":" + query;
+        MutableMetrics nested;
+        synchronized (metrics) {
+            nested = metrics.getNested(id);
+            if (null == nested) {
+                nested = new MutableMetrics(id, "AQL");
+                nested.setAnnotation("query", query);
+                metrics.addNested(nested);
+            }
+        }
+        synchronized (nested) {
+            nested.setAnnotation("executions", sum(nested.getAnnotation("executions"), 1L));
+            if (null != stats.getExecutionTime()) {
+                long executionTime = (long) (stats.getExecutionTime() * 1_000_000_000L);
+                nested.setDuration(nested.getDuration(TimeUnit.NANOSECONDS) + executionTime, TimeUnit.NANOSECONDS);
+            }
+            nested.setAnnotation("scannedFull", sum(nested.getAnnotation("scannedFull"), stats.getScannedFull()));
+            nested.setAnnotation("scannedIndex", sum(nested.getAnnotation("scannedIndex"), stats.getScannedIndex()));
+            nested.setAnnotation("filtered", sum(nested.getAnnotation("filtered"), stats.getFiltered()));
+            nested.setAnnotation("writesExecuted", sum(nested.getAnnotation("writesExecuted"), stats.getWritesExecuted()));
+            nested.setAnnotation("httpRequests", sum(nested.getAnnotation("httpRequests"), stats.getHttpRequests()));
+            if (null != stats.getPeakMemoryUsage()) {
+                Object peak = nested.getAnnotation("peakMemoryUsage");
+                nested.setAnnotation("peakMemoryUsage", null == peak ?
+                        stats.getPeakMemoryUsage() : Math.max((Long) peak, stats.getPeakMemoryUsage()));
+            }
+            if (Boolean.TRUE.equals(cached)) {
+                nested.setAnnotation("cached", true);
+            }
+            if (null != stats.get("nodes")) {
+                // stats of the last execution only, as node ids are not comparable across query plans
+                nested.setAnnotation("nodes", stats.get("nodes"));
+            }
+        }
+    }
+
+    private static long sum(Object current, Number value) {
+        return (null == current ? 0L : (Long) current) + (null == value ? 0L : value.longValue());
+    }
+
     public void insertEdge(ArangoDBEdge edge) {
         logger.debug("Insert edge {} in {} ", edge, config.graphName);
         EdgeEntity insertEntity;
@@ -230,6 +990,134 @@ public class ArangoDBGraphClient {
         edge.update(insertEntity);
     }
 
+    /**
+     * Insert edges with a single AQL query and set their keys.
+     *
+     * @param edges the edges to insert
+     */
+    public void insertGraphEdges(List<EdgeData> edges) {
+        logger.debug("Insert {} edges in {}", edges.size(), config.graphName);
+        validateEdges(edges);
+        insertGraphDocuments(edges);
+    }
+
+    private void validateEdges(List<EdgeData> edges) {
+        Map<String, Set<String>> from = new HashMap<>();
+        Map<String, Set<String>> to = new HashMap<>();
+        config.edgeDefinitions.forEach(it -> {
+            from.put(it.getCollection(), it.getFrom());
+            to.put(it.getCollection(), it.getTo());
+        });
+        for (EdgeData edge : edges) {
+            // as checked by the graph API for single edges
+            if (!from.get(edge.collection()).contains(edge.getFrom().getCollection())
+                    || !to.get(edge.collection()).contains(edge.getTo().getCollection())) {
+                throw new IllegalArgumentException(String.format("Edge (%s) not allowed by the edge definitions of graph (%s).", edge, config.graphName));
+            }
+        }
+    }
+
+    /**
+     * Insert vertices with a single AQL query and set their keys.
+     *
+     * @param vertices the vertices to insert
+     */
+    public void insertGraphVertices(List<VertexData> vertices) {
+        logger.debug("Insert {} vertices in {}", vertices.size(), config.graphName);
+        insertGraphDocuments(vertices);
+    }
+
+    private void insertGraphDocuments(List<? extends PersistentData> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        Map<String, List<PersistentData>> collections = new TreeMap<>();
+        for (PersistentData document : documents) {
+            collections.computeIfAbsent(document.collection(), it -> new ArrayList<>()).add(document);
+        }
+        // the keys are returned grouped by collection, in the order of the documents
+        Iterator<String> keys = executeAqlQuery(ArangoDBQueryBuilder.insertDocuments(collections), String.class);
+        for (List<PersistentData> inserted : collections.values()) {
+            for (PersistentData document : inserted) {
+                document.update(keys.next());
+            }
+        }
+    }
+
+    /**
+     * Merge vertices with a single AQL query: each vertex is looked up by the values of the given properties and, if
+     * matched, its label. The vertex found gets its properties to set, otherwise the vertex is inserted. At most one
+     * vertex is updated, so the matched fields should be uniquely indexed, see {@link #isUniquelyIndexed}.
+     *
+     * @param vertices   the vertices to insert if not found
+     * @param updates    the properties to set on the vertices found, by vertex
+     * @param matchLabel whether to match the label
+     * @param keys       the properties to match
+     * @return the merged vertices, in the order of the given vertices
+     */
+    public List<VertexData> mergeGraphVertices(List<VertexData> vertices, List<Map<String, VertexPropertyData>> updates,
+                                               boolean matchLabel, Set<String> keys) {
+        logger.debug("Merge {} vertices in {}, matching label: {}, properties: {}", vertices.size(), config.graphName, matchLabel, keys);
+        Set<String> attributes = matchLabel ? Collections.singleton("label") : Collections.emptySet();
+        return mergeGraphDocuments(vertices, updates, true, attributes, keys, VertexData.class);
+    }
+
+    /**
+     * Merge edges with a single AQL query: each edge is looked up by the values of the given properties and, if
+     * matched, its label and adjacent vertices. The edge found gets its properties to set, otherwise the edge is
+     * inserted. At most one edge is updated, so the matched fields should be uniquely indexed, see
+     * {@link #isUniquelyIndexed}.
+     *
+     * @param edges      the edges to insert if not found
+     * @param updates    the properties to set on the edges found, by edge
+     * @param matchLabel whether to match the label
+     * @param directions the adjacent vertices to match
+     * @param keys       the properties to match
+     * @return the merged edges, in the order of the given edges
+     */
+    public List<EdgeData> mergeGraphEdges(List<EdgeData> edges, List<Map<String, Object>> updates,
+                                          boolean matchLabel, Set<Direction> directions, Set<String> keys) {
+        logger.debug("Merge {} edges in {}, matching label: {}, vertices: {}, properties: {}", edges.size(), config.graphName, matchLabel, directions, keys);
+        validateEdges(edges);
+        Set<String> attributes = new TreeSet<>();
+        if (matchLabel) {
+            attributes.add("label");
+        }
+        if (directions.contains(Direction.OUT)) {
+            attributes.add("_from");
+        }
+        if (directions.contains(Direction.IN)) {
+            attributes.add("_to");
+        }
+        return mergeGraphDocuments(edges, updates, false, attributes, keys, EdgeData.class);
+    }
+
+    private <V extends PersistentData> List<V> mergeGraphDocuments(List<V> documents, List<? extends Map<String, ?>> updates, boolean vertex,
+                                                                   Set<String> attributes, Set<String> keys, Class<V> clazz) {
+        if (documents.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, List<Integer>> indexes = new TreeMap<>();
+        Map<String, List<Map<String, Object>>> rows = new TreeMap<>();
+        for (int i = 0; i < documents.size(); i++) {
+            String collection = documents.get(i).collection();
+            Map<String, Object> row = new HashMap<>();
+            row.put("create", documents.get(i));
+            row.put("update", updates.get(i));
+            indexes.computeIfAbsent(collection, it -> new ArrayList<>()).add(i);
+            rows.computeIfAbsent(collection, it -> new ArrayList<>()).add(row);
+        }
+        // the documents are returned grouped by collection, in the order of the rows
+        Iterator<V> merged = executeAqlQuery(ArangoDBQueryBuilder.upsertDocuments(rows, vertex, attributes, keys), clazz);
+        List<V> result = new ArrayList<>(Collections.nCopies(documents.size(), null));
+        for (List<Integer> collectionIndexes : indexes.values()) {
+            for (Integer i : collectionIndexes) {
+                result.set(i, merged.next());
+            }
+        }
+        return result;
+    }
+
     public void deleteEdge(ArangoDBEdge edge) {
         logger.debug("Delete edge {} in {}", edge, config.graphName);
         try {
@@ -317,16 +1205,225 @@ public class ArangoDBGraphClient {
 
     public Iterator<VertexData> getVertexNeighbors(ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
         logger.debug("Get vertex {}:{} Neighbors, in {}, from collections {}", vertexId, direction, config.graphName, edgeCollections);
-        String query = ArangoDBQueryBuilder.readVertexNeighbors(config.graphName, vertexId, edgeCollections, direction, labels);
+        AqlQuery query = ArangoDBQueryBuilder.readVertexNeighbors(config.graphName, vertexId, edgeCollections, direction, labels);
         return executeAqlQuery(query, VertexData.class);
     }
 
+    public Iterator<NeighborData> getVertexNeighbors(List<ElementId> vertexIds, TraversalQuery query) {
+        logger.debug("Get vertices {} Neighbors, in {}, following {}", vertexIds, config.graphName, query);
+        return executeAqlQuery(ArangoDBQueryBuilder.readVertexNeighbors(config.graphName, vertexIds, query), NeighborData.class);
+    }
+
+    /**
+     * Count the vertices reached from each start vertex following the hops of the query.
+     *
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the counts by start vertex id, as returned by {@link ElementId#toJson()}, only for the start vertices
+     * reaching some vertex
+     */
+    public Map<String, Long> countVertexNeighbors(List<ElementId> vertexIds, TraversalQuery query) {
+        logger.debug("Count vertices {} Neighbors, in {}, following {}", vertexIds, config.graphName, query);
+        Map<String, Long> counts = new HashMap<>();
+        executeAqlQuery(ArangoDBQueryBuilder.countVertexNeighbors(config.graphName, vertexIds, query), List.class)
+                .forEachRemaining(it -> counts.put((String) it.get(0), ((Number) it.get(1)).longValue()));
+        return counts;
+    }
+
+    public Iterator<VertexData> getVertexRepeat(ElementId vertexId, RepeatQuery query) {
+        logger.debug("Get vertex {} Repeat, in {}, following {}", vertexId, config.graphName, query);
+        AqlQuery aqlQuery = ArangoDBQueryBuilder.readVertexRepeat(config.graphName, vertexId, query);
+        return executeAqlQuery(aqlQuery, VertexData.class);
+    }
+
+    /**
+     * @param weighted whether the length of paths is the sum of an edge property
+     * @param labeled  whether only edges with some labels are followed
+     * @return whether the shortest paths can be found with an AQL path search, otherwise they must be enumerated
+     */
+    public boolean isShortestPathSearchSupported(boolean weighted, boolean labeled) {
+        return !weighted && (!labeled || config.graphType == ArangoDBGraphConfig.GraphType.COMPLEX);
+    }
+
+    /**
+     * Get the shortest paths from the source vertex to the target vertices. AQL path searches can neither filter
+     * edges by label, unless the label determines the edge collection as in COMPLEX graphs, nor read weights from
+     * edge properties: in such cases the paths are enumerated on the server, which requires a depth bound, see
+     * {@link ShortestPathQuery#getDepthBound()}.
+     *
+     * @param source    the source vertex
+     * @param targetIds the ids of the targets, if empty all the vertices matching the target filters are considered
+     * @param query     the search
+     * @return the paths
+     */
+    public Iterator<PathData> getShortestPaths(ElementId source, List<ElementId> targetIds, ShortestPathQuery query) {
+        logger.debug("Get {} shortest paths from {} to {}, following {}", config.graphName, source, targetIds, query);
+        if (!isShortestPathSearchSupported(query.getWeightKey().isPresent(), !query.getLabels().isEmpty())) {
+            AqlQuery aqlQuery = ArangoDBQueryBuilder.enumerateShortestPaths(config.graphName, source, targetIds, query);
+            return executeAqlQuery(aqlQuery, PathData.class);
+        }
+        Set<String> collections = getQueryCollections(config.vertices, new DocumentQuery(Vertex.class).filters(query.getTargetFilters()));
+        List<ElementId> prunedIds = targetIds.stream()
+                .filter(it -> collections.contains(it.getCollection()))
+                .collect(Collectors.toList());
+        if (collections.isEmpty() || (!targetIds.isEmpty() && prunedIds.isEmpty())) {
+            return Collections.emptyIterator();
+        }
+        return executeAqlQuery(ArangoDBQueryBuilder.searchShortestPaths(source, collections, prunedIds, query), PathData.class);
+    }
+
+    public Iterator<NeighborData> getVertexEdges(List<ElementId> vertexIds, TraversalQuery query) {
+        logger.debug("Get vertices {} Edges, in {}, following {}", vertexIds, config.graphName, query);
+        return executeAqlQuery(ArangoDBQueryBuilder.readVertexEdges(config.graphName, vertexIds, query), NeighborData.class);
+    }
+
     public Iterator<EdgeData> getVertexEdges(ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
         logger.debug("Get vertex {}:{} Edges, in {}, from collections {}", vertexId, direction, config.graphName, edgeCollections);
-        String query = ArangoDBQueryBuilder.readVertexEdges(config.graphName, vertexId, edgeCollections, direction, labels);
+        AqlQuery query = ArangoDBQueryBuilder.readVertexEdges(config.graphName, vertexId, edgeCollections, direction, labels);
         return executeAqlQuery(query, EdgeData.class);
     }
 
+    /**
+     * Get the neighbors of the vertices without blocking, see {@link #getVertexNeighbors(List, TraversalQuery)}.
+     *
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the future neighbors
+     */
+    public CompletableFuture<List<NeighborData>> getVertexNeighborsAsync(List<ElementId> vertexIds, TraversalQuery query) {
+        logger.debug("Get vertices {} Neighbors asynchronously, in {}, following {}", vertexIds, config.graphName, query);
+        return executeAqlQueryAsync(ArangoDBQueryBuilder.readVertexNeighbors(config.graphName, vertexIds, query), NeighborData.class);
+    }
+
+    /**
+     * Get the edges of the vertices without blocking, see {@link #getVertexEdges(List, TraversalQuery)}.
+     *
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the future edges
+     */
+    public CompletableFuture<List<NeighborData>> getVertexEdgesAsync(List<ElementId> vertexIds, TraversalQuery query) {
+        logger.debug("Get vertices {} Edges asynchronously, in {}, following {}", vertexIds, config.graphName, query);
+        return executeAqlQueryAsync(ArangoDBQueryBuilder.readVertexEdges(config.graphName, vertexIds, query), NeighborData.class);
+    }
+
+    /**
+     * Count the neighbors of the vertices without blocking, see {@link #countVertexNeighbors(List, TraversalQuery)}.
+     *
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the future counts by start vertex id
+     */
+    @SuppressWarnings("rawtypes")
+    public CompletableFuture<Map<String, Long>> countVertexNeighborsAsync(List<ElementId> vertexIds, TraversalQuery query) {
+        logger.debug("Count vertices {} Neighbors asynchronously, in {}, following {}", vertexIds, config.graphName, query);
+        return executeAqlQueryAsync(ArangoDBQueryBuilder.countVertexNeighbors(config.graphName, vertexIds, query), List.class)
+                .thenApply(res -> {
+                    Map<String, Long> counts = new HashMap<>();
+                    res.forEach(it -> counts.put((String) it.get(0), ((Number) it.get(1)).longValue()));
+                    return counts;
+                });
+    }
+
+    public CompletableFuture<VertexData> readVertexAsync(ElementId id) {
+        logger.debug("Read vertex {} asynchronously in {}", id, config.graphName);
+        return mapExceptionAsync(dbAsync.graph(config.graphName)
+                .vertexCollection(id.getCollection())
+                .getVertex(id.getKey(), VertexData.class), "Failed to read vertex");
+    }
+
+    public CompletableFuture<Void> insertVertexAsync(ArangoDBVertex vertex) {
+        logger.debug("Insert vertex {} asynchronously in {}", vertex, config.graphName);
+        return mapExceptionAsync(dbAsync.graph(config.graphName)
+                .vertexCollection(vertex.collection())
+                .insertVertex(vertex.data())
+                .thenAccept(vertex::update), "Failed to insert document");
+    }
+
+    public CompletableFuture<Void> updateVertexAsync(ArangoDBVertex vertex) {
+        logger.debug("Update document {} asynchronously in {}", vertex, config.graphName);
+        return mapExceptionAsync(dbAsync.graph(config.graphName)
+                .vertexCollection(vertex.collection())
+                .replaceVertex(vertex.key(), vertex.data())
+                .thenAccept(it -> logger.debug("Document updated, new rev {}", it.getRev())), "Failed to update document");
+    }
+
+    public CompletableFuture<Void> deleteVertexAsync(ArangoDBVertex vertex) {
+        logger.debug("Delete vertex {} asynchronously in {}", vertex, config.graphName);
+        return mapExceptionAsync(ignoreNotFound(dbAsync.graph(config.graphName)
+                .vertexCollection(vertex.collection())
+                .deleteVertex(vertex.key())), "Failed to delete vertex");
+    }
+
+    public CompletableFuture<EdgeData> readEdgeAsync(ElementId id) {
+        logger.debug("Read edge {} asynchronously in {}", id, config.graphName);
+        return mapExceptionAsync(dbAsync.graph(config.graphName)
+                .edgeCollection(id.getCollection())
+                .getEdge(id.getKey(), EdgeData.class), "Failed to read edge");
+    }
+
+    public CompletableFuture<Void> insertEdgeAsync(ArangoDBEdge edge) {
+        logger.debug("Insert edge {} asynchronously in {}", edge, config.graphName);
+        return mapExceptionAsync(dbAsync.graph(config.graphName)
+                .edgeCollection(edge.collection())
+                .insertEdge(edge.data())
+                .thenAccept(edge::update), "Failed to insert edge");
+    }
+
+    public CompletableFuture<Void> updateEdgeAsync(ArangoDBEdge edge) {
+        logger.debug("Update edge {} asynchronously in {}", edge, config.graphName);
+        return mapExceptionAsync(dbAsync.graph(config.graphName)
+                .edgeCollection(edge.collection())
+                .replaceEdge(edge.key(), edge.data())
+                .thenAccept(edge::update), "Failed to update edge");
+    }
+
+    public CompletableFuture<Void> deleteEdgeAsync(ArangoDBEdge edge) {
+        logger.debug("Delete edge {} asynchronously in {}", edge, config.graphName);
+        return mapExceptionAsync(ignoreNotFound(dbAsync.graph(config.graphName)
+                .edgeCollection(edge.collection())
+                .deleteEdge(edge.key())), "Failed to delete edge");
+    }
+
+    /**
+     * Wait for the result of an asynchronous call, e.g. {@link #getVertexNeighborsAsync}, throwing its exception as
+     * blocking calls do.
+     *
+     * @param future the future result
+     * @return the result
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static CompletableFuture<Void> ignoreNotFound(CompletableFuture<Void> future) {
+        return future.handle((it, e) -> {
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            if (null == cause || (cause instanceof ArangoDBException && ((ArangoDBException) cause).getErrorNum() == 1202)) { // document not found
+                return null;
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    private <T> CompletableFuture<T> mapExceptionAsync(CompletableFuture<T> future, String message) {
+        return future.handle((it, e) -> {
+            if (null == e) {
+                return it;
+            }
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            logger.error(message, cause);
+            throw new CompletionException(cause instanceof ArangoDBException ? mapException((ArangoDBException) cause) : cause);
+        });
+    }
+
     private RuntimeException mapException(ArangoDBException ex) {
         if (ex.getCause() instanceof InterruptedException) {
             TraversalInterruptedException ie = new TraversalInterruptedException();
@@ -339,4 +1436,19 @@ public class ArangoDBGraphClient {
         return ex;
     }
 
-}
\ No newline at end of file
+    /**
+     * Builder of an AQL query over the documents of some collections of a graph, e.g.
+     * {@link ArangoDBQueryBuilder#countDocuments}.
+     */
+    @FunctionalInterface
+    public interface DocumentsQueryBuilder {
+
+        /**
+         * @param collections the collections to query
+         * @param ids         the ids to match, if empty all documents are considered
+         * @param query       the query to evaluate on the matching documents
+         * @return the AQL query
+         */
+        AqlQuery build(Set<String> collections, List<ElementId> ids, DocumentQuery query);
+    }
+}
@@ -8,91 +8,1000 @@
 
 package com.arangodb.tinkerpop.gremlin.client;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.Geo;
+import com.arangodb.tinkerpop.gremlin.process.traversal.GeoDistance;
+import com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Text;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 
 public class ArangoDBQueryBuilder {
 
+    /**
+     * Count of AQL {@code LIMIT} clauses without upper bound, i.e. the largest integer exactly represented in JSON.
+     */
+    private static final long MAX_LIMIT = (1L << 53) - 1;
+
     private ArangoDBQueryBuilder() {
     }
 
-    public static String readVertexNeighbors(String graphName, ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
-        return oneStepTraversal(graphName, vertexId, edgeCollections, direction, labels)
-                .append(" RETURN v")
-                .toString();
+    /**
+     * Read the vertices adjacent to a vertex through edges with the given labels, if any.
+     *
+     * @param graphName       the graph name
+     * @param vertexId        the vertex
+     * @param edgeCollections the edge collections to follow
+     * @param direction       the direction of the edges
+     * @param labels          the edge labels, if empty all edges are followed
+     * @return the AQL query
+     */
+    public static AqlQuery readVertexNeighbors(String graphName, ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = oneStepTraversal(graphName, vertexId, edgeCollections, direction, labels, bindVars);
+        return new AqlQuery(aql.append(" RETURN v").toString(), bindVars.get());
+    }
+
+    /**
+     * Read the edges of a vertex with the given labels, if any, see
+     * {@link #readVertexNeighbors(String, ElementId, Set, Direction, String[])}.
+     *
+     * @param graphName       the graph name
+     * @param vertexId        the vertex
+     * @param edgeCollections the edge collections to read
+     * @param direction       the direction of the edges
+     * @param labels          the edge labels, if empty all edges are read
+     * @return the AQL query
+     */
+    public static AqlQuery readVertexEdges(String graphName, ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = oneStepTraversal(graphName, vertexId, edgeCollections, direction, labels, bindVars);
+        return new AqlQuery(aql.append(" RETURN e").toString(), bindVars.get());
+    }
+
+    /**
+     * Read the vertices reached from each start vertex following all the hops of the query, together with the start
+     * vertex they were reached from. Consecutive hops in the same direction are translated to a single fixed-depth
+     * traversal, hops in a different direction to a nested traversal starting from the vertices of the previous one.
+     * Edges must match the labels and filters of their hop. The limit of the query applies to each start vertex.
+     *
+     * @param graphName the graph name
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the AQL query
+     */
+    public static AqlQuery readVertexNeighbors(String graphName, List<ElementId> vertexIds, TraversalQuery query) {
+        BindVars bindVars = new BindVars();
+        String ids = bindVars.add(toJsonIds(vertexIds));
+        StringBuilder aql = new StringBuilder();
+        int segment = traversal(graphName, "start", query, aql, bindVars);
+        String projection = projection("v" + segment, true, query.getProjection().orElse(null), bindVars);
+        return new AqlQuery(forEachStart(ids, aql, projection, "vertex", query), bindVars.get());
+    }
+
+    /**
+     * Read the edges traversed by the last hop of the query, together with the start vertex they were reached from,
+     * see {@link #readVertexNeighbors(String, List, TraversalQuery)}.
+     *
+     * @param graphName the graph name
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the AQL query
+     */
+    public static AqlQuery readVertexEdges(String graphName, List<ElementId> vertexIds, TraversalQuery query) {
+        BindVars bindVars = new BindVars();
+        String ids = bindVars.add(toJsonIds(vertexIds));
+        StringBuilder aql = new StringBuilder();
+        int segment = traversal(graphName, "start", query, aql, bindVars);
+        String projection = projection("e" + segment, false, query.getProjection().orElse(null), bindVars);
+        return new AqlQuery(forEachStart(ids, aql, projection, "edge", query), bindVars.get());
+    }
+
+    /**
+     * Count the vertices reached from each start vertex following all the hops of the query, see
+     * {@link #readVertexNeighbors(String, List, TraversalQuery)}. Since each path reaches a vertex through a
+     * distinct edge, this is also the number of edges traversed by the last hop. The query returns a pair
+     * {@code [start, count]} for each start vertex reaching some vertex.
+     *
+     * @param graphName the graph name
+     * @param vertexIds the start vertices
+     * @param query     the hops to follow
+     * @return the AQL query
+     */
+    public static AqlQuery countVertexNeighbors(String graphName, List<ElementId> vertexIds, TraversalQuery query) {
+        BindVars bindVars = new BindVars();
+        String ids = bindVars.add(toJsonIds(vertexIds));
+        StringBuilder aql = new StringBuilder();
+        traversal(graphName, "start", query, aql, bindVars);
+        return new AqlQuery(String.format("FOR start IN %s LET n = FIRST(%s COLLECT WITH COUNT INTO c RETURN c) FILTER n > 0 RETURN [start, n]",
+                ids, aql), bindVars.get());
+    }
+
+    /**
+     * Wrap the traversal in a loop over the start vertices. If the traversal is limited, it is evaluated in a
+     * subquery so that the limit applies to each start vertex.
+     */
+    private static String forEachStart(String ids, CharSequence traversal, String projection, String key, TraversalQuery query) {
+        return query.getLimit().isPresent() ?
+                String.format("FOR start IN %s FOR r IN (%s RETURN %s) RETURN {start: start, %s: r}", ids, traversal, projection, key) :
+                String.format("FOR start IN %s %s RETURN {start: start, %s: %s}", ids, traversal, key, projection);
+    }
+
+    private static List<String> toJsonIds(List<ElementId> ids) {
+        return ids.stream().map(ElementId::toJson).collect(Collectors.toList());
+    }
+
+    /**
+     * Read the vertices reached from the start vertex repeating the hop of the query, with a single variable-depth
+     * traversal. Paths are not expanded after edges with other labels nor after vertices matching the until filters.
+     * Vertices are not required to be unique along a path, so that each path yields a result as in Gremlin.
+     *
+     * @param graphName the graph name
+     * @param vertexId  the start vertex
+     * @param query     the repeated hop
+     * @return the AQL query
+     */
+    public static AqlQuery readVertexRepeat(String graphName, ElementId vertexId, RepeatQuery query) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = new StringBuilder();
+        aql.append(String.format("FOR v, e, p IN %s..%s %s %s GRAPH %s",
+                bindVars.add(query.getMinDepth()), bindVars.add(query.getMaxDepth()),
+                toArangoDirection(query.getDirection()), bindVars.add(vertexId.toJson()), bindVars.add(graphName)));
+        List<String> prune = new ArrayList<>();
+        String labels = null;
+        if (!query.getLabels().isEmpty()) {
+            labels = bindVars.add(query.getLabels());
+            prune.add(String.format("(e != null AND e.label NOT IN %s)", labels));
+        }
+        String until = null;
+        if (!query.getUntilFilters().isEmpty()) {
+            until = query.getUntilFilters().stream()
+                    .map(it -> filter("v", true, it, bindVars))
+                    .collect(Collectors.joining(" AND "));
+            // e is null at the start vertex
+            prune.add(query.isUntilStart() ? "(" + until + ")" : "(e != null AND " + until + ")");
+        }
+        if (!prune.isEmpty()) {
+            aql.append(" PRUNE ").append(String.join(" OR ", prune));
+        }
+        aql.append(String.format(" OPTIONS {edgeCollections: %s, uniqueEdges: \"none\"}",
+                bindVars.add(new TreeSet<>(query.getEdgeCollections()))));
+        if (labels != null) {
+            aql.append(" FILTER p.edges[*].label ALL IN ").append(labels);
+        }
+        if (until != null && !query.isEmit()) {
+            // the loop also stops at the maximum depth
+            aql.append(String.format(" FILTER (%s) OR LENGTH(p.edges) == %s", until, bindVars.add(query.getMaxDepth())));
+        }
+        return new AqlQuery(aql.append(" RETURN v").toString(), bindVars.get());
+    }
+
+    /**
+     * Search the shortest paths from the source vertex to each vertex matching the targets of the query, with the
+     * AQL path search of the query algorithm. Path searches cannot filter edges, therefore the edge collections of
+     * the query must only contain edges with the query labels. Path lengths are the number of edges.
+     *
+     * @param source      the source vertex
+     * @param collections the vertex collections of the targets
+     * @param targetIds   the ids of the targets, if empty all the vertices in the collections are considered
+     * @param query       the search
+     * @return the AQL query
+     */
+    public static AqlQuery searchShortestPaths(ElementId source, Set<String> collections, List<ElementId> targetIds, ShortestPathQuery query) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = documents(collections, targetIds, new DocumentQuery(Vertex.class).filters(query.getTargetFilters()), bindVars);
+        String direction = toArangoDirection(query.getDirection());
+        String start = bindVars.add(source.toJson());
+        String edges = new TreeSet<>(query.getEdgeCollections()).stream()
+                .map(bindVars::addCollection)
+                .collect(Collectors.joining(", "));
+        String maxDistance = query.getMaxDistance().map(bindVars::add).orElse(null);
+        switch (query.getAlgorithm()) {
+            case ALL_SHORTEST_PATHS:
+                aql.append(String.format(" FOR p IN %s ALL_SHORTEST_PATHS %s TO d %s", direction, start, edges));
+                break;
+            case K_SHORTEST_PATHS:
+                // paths are enumerated by increasing length, the subquery limits them for each target
+                aql.append(String.format(" LET ps = (FOR p IN %s K_SHORTEST_PATHS %s TO d %s LIMIT %s RETURN p) FOR p IN ps",
+                        direction, start, edges, bindVars.add(query.getK())));
+                break;
+            case SHORTEST_PATH:
+                aql
+                        .append(String.format(" LET sp = (FOR v, e IN %s SHORTEST_PATH %s TO d %s RETURN {v, e})", direction, start, edges))
+                        .append(" FILTER LENGTH(sp) > 0")
+                        .append(" LET p = {vertices: sp[*].v, edges: sp[* FILTER CURRENT.e != null].e}");
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported algorithm: " + query.getAlgorithm());
+        }
+        if (maxDistance != null) {
+            aql.append(" FILTER LENGTH(p.edges) <= ").append(maxDistance);
+        }
+        return new AqlQuery(aql.append(" RETURN ").append(path("p", query.isIncludeEdges())).toString(), bindVars.get());
+    }
+
+    /**
+     * Find the shortest paths from the source vertex to each vertex matching the targets of the query, enumerating
+     * on the server all the paths without repeated vertices up to the depth bound of the query. This supports what
+     * AQL path searches do not, i.e. filtering edges by label and weights read from edge properties, at a cost
+     * exponential in the depth.
+     *
+     * @param graphName the graph name
+     * @param source    the source vertex
+     * @param targetIds the ids of the targets, if empty all the vertices are considered
+     * @param query     the search, with a depth bound, see {@link ShortestPathQuery#getDepthBound()}
+     * @return the AQL query
+     */
+    public static AqlQuery enumerateShortestPaths(String graphName, ElementId source, List<ElementId> targetIds, ShortestPathQuery query) {
+        int depth = query.getDepthBound()
+                .orElseThrow(() -> new IllegalArgumentException("Enumerating shortest paths requires a maximum depth: " + query));
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = new StringBuilder();
+        String weightKey = query.getWeightKey().map(bindVars::add).orElse(null);
+        String weight = weightKey != null ? "SUM(p.edges[*].properties." + weightKey + ")" : "LENGTH(p.edges)";
+        String maxDistance = query.getMaxDistance().map(bindVars::add).orElse(null);
+        aql.append(String.format("FOR v, e, p IN 0..%s %s %s GRAPH %s", bindVars.add(depth),
+                toArangoDirection(query.getDirection()), bindVars.add(source.toJson()), bindVars.add(graphName)));
+        List<String> prune = new ArrayList<>();
+        String labels = null;
+        if (!query.getLabels().isEmpty()) {
+            labels = bindVars.add(query.getLabels());
+            prune.add(String.format("(e != null AND e.label NOT IN %s)", labels));
+        }
+        if (weightKey != null && maxDistance != null) {
+            prune.add(String.format("%s > %s", weight, maxDistance));
+        }
+        if (!prune.isEmpty()) {
+            aql.append(" PRUNE ").append(String.join(" OR ", prune));
+        }
+        aql.append(String.format(" OPTIONS {edgeCollections: %s, uniqueVertices: \"path\", uniqueEdges: \"path\"}",
+                bindVars.add(new TreeSet<>(query.getEdgeCollections()))));
+        if (labels != null) {
+            aql.append(" FILTER p.edges[*].label ALL IN ").append(labels);
+        }
+        if (!targetIds.isEmpty()) {
+            List<String> ids = targetIds.stream()
+                    .map(ElementId::toJson)
+                    .collect(Collectors.toList());
+            aql.append(" FILTER v._id IN ").append(bindVars.add(ids));
+        }
+        for (HasContainer container : query.getTargetFilters()) {
+            aql.append(" FILTER ").append(filter("v", true, container, bindVars));
+        }
+        aql.append(" LET w = ").append(weight);
+        if (maxDistance != null) {
+            aql.append(" FILTER w <= ").append(maxDistance);
+        }
+        aql.append(" COLLECT t = v._id INTO paths = {vertices: p.vertices, edges: p.edges, w: w}");
+        if (query.getAlgorithm() == ShortestPathQuery.Algorithm.ALL_SHORTEST_PATHS) {
+            aql.append(" LET m = MIN(paths[*].w) FOR x IN paths FILTER x.w == m");
+        } else {
+            int k = query.getAlgorithm() == ShortestPathQuery.Algorithm.K_SHORTEST_PATHS ? query.getK() : 1;
+            // the subquery limits the paths of each target
+            aql.append(" LET top = (FOR x IN paths SORT x.w LIMIT ").append(bindVars.add(k)).append(" RETURN x) FOR x IN top");
+        }
+        return new AqlQuery(aql.append(" RETURN ").append(path("x", query.isIncludeEdges())).toString(), bindVars.get());
     }
 
-    public static String readVertexEdges(String graphName, ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
-        return oneStepTraversal(graphName, vertexId, edgeCollections, direction, labels)
-                .append(" RETURN e")
-                .toString();
+    private static String path(String var, boolean includeEdges) {
+        return includeEdges ?
+                String.format("{vertices: %s.vertices, edges: %s.edges}", var, var) :
+                String.format("{vertices: %s.vertices}", var);
     }
 
-    private static StringBuilder oneStepTraversal(String graphName, ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
+    /**
+     * Append the traversal of all the hops of the query and its limit.
+     *
+     * @param start the AQL expression of the start vertex
+     * @return the index of the innermost traversal, whose variables {@code v<index>} and {@code e<index>} hold the
+     * last vertex and edge
+     */
+    private static int traversal(String graphName, String start, TraversalQuery query, StringBuilder aql, BindVars bindVars) {
+        String graph = bindVars.add(graphName);
+        List<TraversalQuery.Hop> hops = query.getHops();
+        int segment = 0;
+        for (int i = 0; i < hops.size(); segment++) {
+            Direction direction = hops.get(i).getDirection();
+            int end = i;
+            while (end < hops.size() && hops.get(end).getDirection() == direction) {
+                end++;
+            }
+            List<TraversalQuery.Hop> segmentHops = hops.subList(i, end);
+            Set<String> edgeCollections = segmentHops.stream()
+                    .flatMap(it -> it.getEdgeCollections().stream())
+                    .collect(Collectors.toCollection(TreeSet::new));
+            String path = "path" + segment;
+            if (segment > 0) {
+                aql.append(" ");
+            }
+            aql.append(String.format("FOR v%d, e%d, %s IN %d..%d %s %s GRAPH %s OPTIONS {edgeCollections: %s, uniqueEdges: \"none\"}",
+                    segment, segment, path, segmentHops.size(), segmentHops.size(), toArangoDirection(direction),
+                    start, graph, bindVars.add(edgeCollections)));
+            for (int depth = 0; depth < segmentHops.size(); depth++) {
+                List<String> labels = segmentHops.get(depth).getLabels();
+                if (!labels.isEmpty()) {
+                    aql.append(String.format(" FILTER %s.edges[%d].label IN %s", path, depth, bindVars.add(labels)));
+                }
+                for (HasContainer container : segmentHops.get(depth).getEdgeFilters()) {
+                    aql.append(" FILTER ").append(filter(String.format("%s.edges[%d]", path, depth), false, container, bindVars));
+                }
+            }
+            start = "v" + segment;
+            i = end;
+        }
+        query.getLimit().ifPresent(it -> aql.append(" LIMIT ").append(bindVars.add(it)));
+        return segment - 1;
+    }
+
+    private static StringBuilder oneStepTraversal(String graphName, ElementId vertexId, Set<String> edgeCollections, Direction direction,
+                                                  String[] labels, BindVars bindVars) {
         StringBuilder query = new StringBuilder()
-                .append("FOR v, e IN 1..1 ")
-                .append(toArangoDirection(direction))
-                .append(" ")
-                .append(quote(vertexId.toJson()))
-                .append(" GRAPH ")
-                .append(escape(graphName))
-                .append(" OPTIONS {edgeCollections: ")
-                .append(edgeCollections.stream()
-                        .map(ArangoDBQueryBuilder::quote)
-                        .collect(Collectors.joining(",", "[", "]")))
-                .append("}");
+                .append(String.format("FOR v, e IN 1..1 %s %s GRAPH %s OPTIONS {edgeCollections: %s}",
+                        toArangoDirection(direction), bindVars.add(vertexId.toJson()), bindVars.add(graphName),
+                        bindVars.add(new TreeSet<>(edgeCollections))));
         if (labels.length > 0) {
             query
                     .append(" FILTER e.label IN ")
-                    .append(Arrays.stream(labels)
-                            .map(ArangoDBQueryBuilder::quote)
-                            .collect(Collectors.joining(",", "[", "]")));
+                    .append(bindVars.add(Arrays.asList(labels)));
         }
         return query;
     }
 
-    public static String readDocumentsByIds(List<ElementId> ids) {
-        String idsArray = ids.stream()
-                .map(ElementId::toJson)
-                .map(ArangoDBQueryBuilder::quote)
-                .collect(Collectors.joining(",", "[", "]"));
-        return String.format("FOR d IN DOCUMENT(%s) RETURN d", idsArray);
+    /**
+     * Read the documents with the given ids.
+     *
+     * @param ids the ids
+     * @return the AQL query
+     */
+    public static AqlQuery readDocumentsByIds(List<ElementId> ids) {
+        BindVars bindVars = new BindVars();
+        String aql = String.format("FOR d IN DOCUMENT(%s) RETURN d", bindVars.add(toJsonIds(ids)));
+        return new AqlQuery(aql, bindVars.get());
     }
 
-    public static String readAllDocuments(Set<String> collections) {
+    /**
+     * Read all the documents of the given collections.
+     *
+     * @param collections the collections
+     * @return the AQL query
+     */
+    public static AqlQuery readAllDocuments(Set<String> collections) {
         if (collections.isEmpty()) {
             throw new IllegalArgumentException();
+        }
+        BindVars bindVars = new BindVars();
+        String aql;
+        if (collections.size() == 1) {
+            aql = String.format("FOR d IN %s RETURN d", bindVars.addCollection(collections.iterator().next()));
+        } else {
+            String inner = new TreeSet<>(collections).stream()
+                    .map(it -> "(FOR x IN " + bindVars.addCollection(it) + " RETURN x)")
+                    .collect(Collectors.joining(","));
+            aql = String.format("FOR d IN UNION(%s) RETURN d", inner);
+        }
+        return new AqlQuery(aql, bindVars.get());
+    }
+
+    /**
+     * Read the documents matching the query from the given collections or, if ids are provided, the documents with
+     * such ids.
+     *
+     * @param collections the collections to read from
+     * @param ids         the ids to match, if empty all the documents in the collections are considered
+     * @param query       the filters to apply
+     * @return the AQL query
+     */
+    public static AqlQuery readDocuments(Set<String> collections, List<ElementId> ids, DocumentQuery query) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = documents(collections, ids, query, bindVars);
+        String projection = projection("d", query.isVertexQuery(), query.getProjection().orElse(null), bindVars);
+        return new AqlQuery(aql.append(" RETURN ").append(projection).toString(), bindVars.get());
+    }
+
+    /**
+     * Group the documents matching the query, see {@link #readDocuments(Set, List, DocumentQuery)}. Each result is a
+     * pair of the group key and its reduced value. Documents without the property to group by are excluded, as
+     * Gremlin does.
+     *
+     * @param collections the collections to read from
+     * @param ids         the ids to match, if empty all the documents in the collections are considered
+     * @param query       the filters to apply
+     * @param group       the grouping
+     * @return the AQL query
+     */
+    public static AqlQuery groupDocuments(Set<String> collections, List<ElementId> ids, DocumentQuery query, GroupQuery group) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = documents(collections, ids, query, bindVars);
+        boolean vertex = query.isVertexQuery();
+        String groupPath;
+        if (group.getKey().equals(T.label.getAccessor())) {
+            groupPath = "d.label";
+        } else {
+            String key = bindVars.add(group.getKey());
+            aql.append(String.format(" FILTER HAS(d.properties, %s)", key));
+            groupPath = "d.properties." + key + (vertex ? ".value" : "");
+        }
+        // only SUM and FOLD reduce a property
+        String valueKey = null;
+        String valuePath = null;
+        if (group.getReducer() != GroupQuery.Reducer.COUNT) {
+            valueKey = bindVars.add(group.getValueKey());
+            valuePath = "d.properties." + valueKey + (vertex ? ".value" : "");
+        }
+        switch (group.getReducer()) {
+            case COUNT:
+                aql.append(" COLLECT g = ").append(groupPath).append(" WITH COUNT INTO r");
+                break;
+            case SUM:
+                aql
+                        .append(String.format(" FILTER HAS(d.properties, %s)", valueKey))
+                        .append(" COLLECT g = ").append(groupPath)
+                        .append(" AGGREGATE r = SUM(").append(valuePath).append(")");
+                break;
+            case FOLD:
+                aql
+                        .append(" COLLECT g = ").append(groupPath)
+                        .append(String.format(" INTO vs = HAS(d.properties, %s) ? [%s] : []", valueKey, valuePath))
+                        .append(" LET r = FLATTEN(vs)");
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported reducer: " + group.getReducer());
+        }
+        return new AqlQuery(aql.append(" RETURN [g, r]").toString(), bindVars.get());
+    }
+
+    /**
+     * Remove the documents matching the query, see {@link #readDocuments(Set, List, DocumentQuery)}, together with the
+     * edges from or to them in the given edge collections. The edges are looked up by the edge index and each
+     * collection is modified by a single operation. The query returns the number of removed documents.
+     *
+     * @param collections     the collections to remove from
+     * @param ids             the ids to match, if empty all the documents in the collections are considered
+     * @param query           the filters to apply
+     * @param edgeCollections the edge collections to remove the adjacent edges from, empty when removing edges
+     * @return the AQL query
+     */
+    public static AqlQuery removeDocuments(Set<String> collections, List<ElementId> ids, DocumentQuery query, Set<String> edgeCollections) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = new StringBuilder("LET ids = UNIQUE(")
+                .append(documents(collections, ids, query, bindVars))
+                .append(" RETURN d._id)");
+        int i = 0;
+        for (String edgeCollection : new TreeSet<>(edgeCollections)) {
+            String collection = bindVars.addCollection(edgeCollection);
+            aql.append(String.format(" LET r%d = (FOR e IN %s FILTER e._from IN ids OR e._to IN ids REMOVE e IN %s)",
+                    i++, collection, collection));
+        }
+        for (String name : new TreeSet<>(collections)) {
+            aql.append(String.format(" LET r%d = (FOR id IN ids FILTER PARSE_IDENTIFIER(id).collection == %s REMOVE PARSE_IDENTIFIER(id).key IN %s)",
+                    i++, bindVars.add(name), bindVars.addCollection(name)));
+        }
+        return new AqlQuery(aql.append(" RETURN LENGTH(ids)").toString(), bindVars.get());
+    }
+
+    /**
+     * Set properties of the documents matching the query, see {@link #readDocuments(Set, List, DocumentQuery)}, with
+     * one {@code UPDATE} per collection. Each given property replaces the existing one with the same key, the other
+     * properties are kept.
+     *
+     * @param collections the collections to update
+     * @param ids         the ids to match, if empty all the documents in the collections are considered
+     * @param query       the filters to apply, without range nor order
+     * @param properties  the properties to set, in their persisted form
+     * @param returnNew   whether to return the updated documents, otherwise their number is returned
+     * @return the AQL query
+     */
+    public static AqlQuery updateDocuments(Set<String> collections, List<ElementId> ids, DocumentQuery query, Map<String, ?> properties, boolean returnNew) {
+        BindVars bindVars = new BindVars();
+        String update = bindVars.add(properties);
+        StringBuilder aql = new StringBuilder();
+        List<String> results = new ArrayList<>();
+        for (String name : new TreeSet<>(collections)) {
+            List<ElementId> collectionIds = ids.stream()
+                    .filter(it -> it.getCollection().equals(name))
+                    .collect(Collectors.toList());
+            if (!ids.isEmpty() && collectionIds.isEmpty()) {
+                continue;
+            }
+            String result = "r" + results.size();
+            results.add(result);
+            aql
+                    .append("LET ").append(result).append(" = (")
+                    .append(documents(Collections.singleton(name), collectionIds, query, bindVars))
+                    .append(" UPDATE d WITH {properties: MERGE(d.properties, ").append(update).append(")} IN ")
+                    .append(bindVars.addCollection(name))
+                    .append(" OPTIONS {mergeObjects: false} RETURN ")
+                    .append(returnNew ? "NEW" : "1")
+                    .append(") ");
+        }
+        if (returnNew) {
+            aql.append("FOR d IN FLATTEN([").append(String.join(", ", results)).append("]) RETURN d");
+        } else {
+            aql.append("RETURN SUM([").append(results.stream().map(it -> "LENGTH(" + it + ")").collect(Collectors.joining(", "))).append("])");
+        }
+        return new AqlQuery(aql.toString(), bindVars.get());
+    }
+
+    /**
+     * Insert documents with one {@code INSERT} per collection. The query returns the keys of the inserted documents,
+     * in the iteration order of the collections and of their documents.
+     *
+     * @param documents the documents to insert by collection
+     * @return the AQL query
+     */
+    public static AqlQuery insertDocuments(Map<String, ? extends List<?>> documents) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = new StringBuilder();
+        List<String> results = new ArrayList<>();
+        for (Map.Entry<String, ? extends List<?>> entry : documents.entrySet()) {
+            String result = "r" + results.size();
+            results.add(result);
+            aql
+                    .append("LET ").append(result).append(" = (FOR r IN ").append(bindVars.add(entry.getValue()))
+                    .append(" INSERT r INTO ").append(bindVars.addCollection(entry.getKey()))
+                    .append(" RETURN NEW._key) ");
+        }
+        aql.append("FOR k IN FLATTEN([").append(String.join(", ", results)).append("]) RETURN k");
+        return new AqlQuery(aql.toString(), bindVars.get());
+    }
+
+    /**
+     * Merge documents with one {@code UPSERT} per collection. Each row holds the document to insert under
+     * {@code create} and the properties to set under {@code update}. The existing document is looked up by the given
+     * attributes and properties of the document to insert, which persistent indexes on these attributes can serve.
+     * If found, the properties to set replace the existing ones with the same key, otherwise the document is
+     * inserted. The query returns the merged documents, in the iteration order of the collections and of their rows.
+     *
+     * @param rows       the rows to merge by collection
+     * @param vertex     whether the documents are vertices
+     * @param attributes the attributes to match, among {@code label}, {@code _from} and {@code _to}
+     * @param keys       the properties to match
+     * @return the AQL query
+     */
+    public static AqlQuery upsertDocuments(Map<String, ? extends List<?>> rows, boolean vertex, Set<String> attributes, Set<String> keys) {
+        BindVars bindVars = new BindVars();
+        List<String> conditions = new ArrayList<>();
+        for (String attribute : attributes) {
+            conditions.add(String.format("$CURRENT.%1$s == r.create.%1$s", attribute));
+        }
+        for (String key : keys) {
+            String path = "properties." + bindVars.add(key) + (vertex ? ".value" : "");
+            conditions.add(String.format("$CURRENT.%1$s == r.create.%1$s", path));
+        }
+        String search = String.join(" AND ", conditions);
+        StringBuilder aql = new StringBuilder();
+        List<String> results = new ArrayList<>();
+        for (Map.Entry<String, ? extends List<?>> entry : rows.entrySet()) {
+            String result = "r" + results.size();
+            results.add(result);
+            aql
+                    .append("LET ").append(result).append(" = (FOR r IN ").append(bindVars.add(entry.getValue()))
+                    .append(" UPSERT FILTER ").append(search)
+                    .append(" INSERT r.create UPDATE {properties: MERGE(OLD.properties, r.update)} IN ")
+                    .append(bindVars.addCollection(entry.getKey()))
+                    .append(" OPTIONS {mergeObjects: false} RETURN NEW) ");
+        }
+        aql.append("FOR d IN FLATTEN([").append(String.join(", ", results)).append("]) RETURN d");
+        return new AqlQuery(aql.toString(), bindVars.get());
+    }
+
+    /**
+     * Append the iteration over the documents matching the query, bound to the variable {@code d}.
+     */
+    private static StringBuilder documents(Set<String> collections, List<ElementId> ids, DocumentQuery query, BindVars bindVars) {
+        StringBuilder aql = new StringBuilder();
+        boolean indexed = false;
+        if (!ids.isEmpty()) {
+            List<String> idsArray = ids.stream()
+                    .map(ElementId::toJson)
+                    .collect(Collectors.toList());
+            aql
+                    .append("FOR d IN DOCUMENT(")
+                    .append(bindVars.add(idsArray))
+                    .append(")")
+                    .append(filters("d", query, bindVars));
+        } else if (collections.isEmpty()) {
+            throw new IllegalArgumentException();
+        } else if (!searchFilters(query).isEmpty()) {
+            aql.append(search("d", collections, query, bindVars));
         } else if (collections.size() == 1) {
-            return readAllDocumentsFromSingleCollection(collections.iterator().next());
+            // documents of a single collection can be sorted with indexes, vector indexes only serve unfiltered limited sorts
+            indexed = query.getHigh() >= 0;
+            aql
+                    .append("FOR d IN ")
+                    .append(bindVars.addCollection(collections.iterator().next()))
+                    .append(filters("d", query, Collections.emptyList(), indexed, bindVars));
         } else {
-            return readAllDocumentsFromMultipleCollections(collections);
+            String filters = filters("x", query, Collections.emptyList(), query.getHigh() >= 0, bindVars);
+            // each collection contributes at most the documents up to the end of the range
+            String limit = query.getHigh() >= 0 ? sort("x", query, true, bindVars) + " LIMIT " + bindVars.add(query.getHigh()) : "";
+            String inner = collections.stream()
+                    .map(it -> "(FOR x IN " + bindVars.addCollection(it) + filters + limit + " RETURN x)")
+                    .collect(Collectors.joining(","));
+            aql.append("FOR d IN UNION(").append(inner).append(")");
         }
+        aql.append(sort("d", query, indexed, bindVars));
+        if (query.hasRange()) {
+            long count = query.getHigh() >= 0 ? query.getHigh() - query.getLow() : MAX_LIMIT;
+            aql.append(" LIMIT ").append(bindVars.add(query.getLow())).append(", ").append(bindVars.add(count));
+        }
+        if (query.isReversed()) {
+            // the range was taken in the reverse order, the documents in it are sorted again
+            return new StringBuilder("FOR d IN (").append(aql).append(" RETURN d)").append(sort("d", query, false, false, bindVars));
+        }
+        return aql;
+    }
+
+    /**
+     * Render the document to return, keeping only the given properties if any.
+     *
+     * @param keys the property keys to keep, or {@code null} to return the whole document
+     */
+    private static String projection(String var, boolean vertex, Set<String> keys, BindVars bindVars) {
+        if (keys == null) {
+            return var;
+        }
+        String ends = vertex ? "" : String.format(", _from: %s._from, _to: %s._to", var, var);
+        return String.format("{_id: %s._id, _key: %s._key, label: %s.label%s, properties: KEEP(%s.properties, %s)}",
+                var, var, var, ends, var, bindVars.add(new TreeSet<>(keys)));
+    }
+
+    /**
+     * Count the documents matching the query, see {@link #readDocuments(Set, List, DocumentQuery)}. Unfiltered counts
+     * of whole collections are read from the collection metadata.
+     *
+     * @param collections the collections to count
+     * @param ids         the ids to match, if empty all the documents in the collections are considered
+     * @param query       the filters to apply
+     * @return the AQL query
+     */
+    public static AqlQuery countDocuments(Set<String> collections, List<ElementId> ids, DocumentQuery query) {
+        BindVars bindVars = new BindVars();
+        StringBuilder aql = new StringBuilder();
+        if (!ids.isEmpty()) {
+            List<String> idsArray = ids.stream()
+                    .map(ElementId::toJson)
+                    .collect(Collectors.toList());
+            aql
+                    .append("FOR d IN DOCUMENT(")
+                    .append(bindVars.add(idsArray))
+                    .append(")")
+                    .append(filters("d", query, bindVars))
+                    .append(" COLLECT WITH COUNT INTO c RETURN c");
+        } else if (collections.isEmpty()) {
+            throw new IllegalArgumentException();
+        } else if (!searchFilters(query).isEmpty()) {
+            aql
+                    .append(search("d", collections, query, bindVars))
+                    .append(" COLLECT WITH COUNT INTO c RETURN c");
+        } else if (query.getFilters().isEmpty()) {
+            String counts = collections.stream()
+                    .map(it -> "COLLECTION_COUNT(" + bindVars.addCollection(it) + ")")
+                    .collect(Collectors.joining(","));
+            aql.append("RETURN SUM([").append(counts).append("])");
+        } else {
+            String filters = filters("x", query, bindVars);
+            String counts = collections.stream()
+                    .map(it -> "FIRST(FOR x IN " + bindVars.addCollection(it) + filters + " COLLECT WITH COUNT INTO c RETURN c)")
+                    .collect(Collectors.joining(","));
+            aql.append("RETURN SUM([").append(counts).append("])");
+        }
+        return new AqlQuery(aql.toString(), bindVars.get());
+    }
+
+    /**
+     * Check whether the {@link HasContainer} can be translated to an AQL filter, i.e. whether it tests the label or a
+     * property using only {@link Compare} and {@link Contains} predicates on values that AQL compares the same way
+     * Gremlin does, i.e. strings only for equality, {@link Text} predicates, or {@link Geo} predicates.
+     *
+     * @param container the has container
+     * @return {@code true} if the container can be used in {@link DocumentQuery#filters(List)}
+     */
+    public static boolean isFilterSupported(HasContainer container) {
+        String key = container.getKey();
+        if (key == null || (Graph.Hidden.isHidden(key) && !key.equals(T.label.getAccessor()))) {
+            return false;
+        }
+        return isPredicateSupported(container.getPredicate());
+    }
+
+    private static boolean isPredicateSupported(P<?> predicate) {
+        if (predicate instanceof ConnectiveP) {
+            return ((ConnectiveP<?>) predicate).getPredicates().stream()
+                    .allMatch(ArangoDBQueryBuilder::isPredicateSupported);
+        }
+        BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+        Object value = predicate.getValue();
+        if (biPredicate instanceof Compare) {
+            // AQL orders strings by ICU collation, while Gremlin compares their code points
+            if (value instanceof String && biPredicate != Compare.eq && biPredicate != Compare.neq) {
+                return false;
+            }
+            return isValueSupported(value);
+        }
+        if (biPredicate instanceof Contains) {
+            return value instanceof Collection
+                    && ((Collection<?>) value).stream().allMatch(ArangoDBQueryBuilder::isValueSupported);
+        }
+        if (biPredicate instanceof Text) {
+            return value instanceof String;
+        }
+        if (biPredicate == Geo.withinDistance) {
+            return value instanceof Geo.Circle;
+        }
+        if (biPredicate == Geo.inside) {
+            return value instanceof Geo.Polygon;
+        }
+        return false;
+    }
+
+    private static boolean isValueSupported(Object value) {
+        if (value instanceof Double) {
+            return Double.isFinite((Double) value);
+        }
+        if (value instanceof Float) {
+            return Float.isFinite((Float) value);
+        }
+        return value instanceof String
+                || value instanceof Boolean
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+
+    private static String filters(String var, DocumentQuery query, BindVars bindVars) {
+        return filters(var, query, Collections.emptyList(), false, bindVars);
+    }
+
+    /**
+     * Render the filters of the query, except the given ones that are already evaluated by a {@code SEARCH}.
+     *
+     * @param indexed whether the documents are sorted with indexes, see {@link #sort(String, DocumentQuery, boolean, BindVars)}
+     */
+    private static String filters(String var, DocumentQuery query, List<HasContainer> searched, boolean indexed, BindVars bindVars) {
+        String filters = query.getFilters().stream()
+                .filter(it -> searched.stream().noneMatch(s -> s == it))
+                .map(it -> " FILTER " + filter(var, query.isVertexQuery(), it, bindVars))
+                .collect(Collectors.joining());
+        // Gremlin excludes elements without the properties to sort by, vector indexes only hold documents having them
+        String sortFilters = query.getSortKeys().stream()
+                .filter(it -> !approximated(query, it, indexed))
+                .map(DocumentQuery.SortKey::getKey)
+                .distinct()
+                .map(it -> String.format(" FILTER HAS(%s.properties, %s)", var, bindVars.add(it)))
+                .collect(Collectors.joining());
+        return filters + sortFilters;
+    }
+
+    /**
+     * Select the filters of the query that the ArangoSearch view of the query can evaluate, i.e. the positive
+     * {@link Text} predicates on its indexed properties. Negated ones also match documents without the property,
+     * which are not in the inverted index, so they are left to {@code FILTER}.
+     */
+    private static List<HasContainer> searchFilters(DocumentQuery query) {
+        if (query.getSearchView() == null) {
+            return Collections.emptyList();
+        }
+        return query.getFilters().stream()
+                .filter(it -> query.getSearchKeys().contains(it.getKey()))
+                .filter(it -> !(it.getPredicate() instanceof ConnectiveP))
+                .filter(it -> it.getBiPredicate() == Text.startingWith
+                        || it.getBiPredicate() == Text.containing
+                        || it.getBiPredicate() == Text.endingWith)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Iterate over the documents of the given collections matching the text filters of the query through its
+     * ArangoSearch view, then apply the other filters. The inverted indexes use the {@code identity} analyzer, so
+     * that {@code STARTS_WITH()} and {@code LIKE()} match case-sensitive substrings as {@link Text} does.
+     */
+    private static String search(String var, Set<String> collections, DocumentQuery query, BindVars bindVars) {
+        List<HasContainer> searched = searchFilters(query);
+        boolean vertex = query.isVertexQuery();
+        String conditions = searched.stream()
+                .map(it -> {
+                    String path = var + ".properties." + bindVars.add(it.getKey()) + (vertex ? ".value" : "");
+                    String value = (String) it.getValue();
+                    if (it.getBiPredicate() == Text.startingWith) {
+                        return String.format("STARTS_WITH(%s, %s)", path, bindVars.add(value));
+                    } else if (it.getBiPredicate() == Text.containing) {
+                        return String.format("LIKE(%s, %s)", path, bindVars.add("%" + escapeLike(value) + "%"));
+                    }
+                    return String.format("LIKE(%s, %s)", path, bindVars.add("%" + escapeLike(value)));
+                })
+                .collect(Collectors.joining(" AND "));
+        String options = "collections: " + bindVars.add(new TreeSet<>(collections))
+                + (query.isSearchWaitForSync() ? ", waitForSync: true" : "");
+        return String.format("FOR %s IN %s SEARCH %s OPTIONS {%s}%s", var, bindVars.addCollection(query.getSearchView()),
+                conditions, options, filters(var, query, searched, false, bindVars));
     }
 
-    private static String readAllDocumentsFromMultipleCollections(Set<String> collections) {
-        String inner = collections.stream()
-                .map(ArangoDBQueryBuilder::readAllDocumentsFromSingleCollection)
-                .map(it -> "(" + it + ")")
-                .collect(Collectors.joining(","));
-        return String.format("FOR d in UNION(%s) RETURN d", inner);
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
-    private static String readAllDocumentsFromSingleCollection(String collection) {
-        return String.format("FOR x IN %s RETURN x", escape(collection));
+    /**
+     * Render the sort keys of the query. Vector similarities are approximated with the vector indexes of the query
+     * when the documents of a collection are sorted and limited without filters, which the indexes would evaluate
+     * after selecting the nearest documents, otherwise they are evaluated exactly, with values that are not vectors of
+     * the same dimension last.
+     *
+     * @param indexed whether the variable iterates over the documents of a collection and the sort is limited
+     */
+    private static String sort(String var, DocumentQuery query, boolean indexed, BindVars bindVars) {
+        return sort(var, query, indexed, query.isReversed(), bindVars);
     }
 
-    private static String escape(String collection) {
-        return String.format("`%s`", collection);
+    /**
+     * @param reversed whether to sort in the reverse order of the sort keys, see {@link DocumentQuery#reverse()}
+     */
+    private static String sort(String var, DocumentQuery query, boolean indexed, boolean reversed, BindVars bindVars) {
+        if (query.getSortKeys().isEmpty()) {
+            return "";
+        }
+        return query.getSortKeys().stream()
+                .map(it -> {
+                    String path = sortPath(var, query.isVertexQuery(), it.getKey(), bindVars);
+                    if (it.getOrder() instanceof GeoDistance) {
+                        double[] origin = ((GeoDistance) it.getOrder()).getOrigin();
+                        return String.format("GEO_DISTANCE(%s, %s) ASC", bindVars.add(coordinates(origin)), path);
+                    } else if (it.getOrder() instanceof VectorSimilarity) {
+                        return similarity(path, (VectorSimilarity) it.getOrder(), approximated(query, it, indexed), bindVars);
+                    }
+                    return path + (it.isAscending() != reversed ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " SORT ", ""));
+    }
+
+    /**
+     * @param ids   the ids of the documents to query, if any
+     * @param query the query
+     * @return whether the query can sort by similarity with vector indexes, which must then be set on the query
+     */
+    public static boolean isApproximable(List<ElementId> ids, DocumentQuery query) {
+        return ids.isEmpty() && query.getHigh() >= 0 && query.getFilters().isEmpty()
+                && query.getSortKeys().stream().anyMatch(it -> it.getOrder() instanceof VectorSimilarity);
+    }
+
+    private static boolean approximated(DocumentQuery query, DocumentQuery.SortKey key, boolean indexed) {
+        return indexed && query.getFilters().isEmpty() && !query.isReversed() && key.getOrder() instanceof VectorSimilarity
+                && ((VectorSimilarity) key.getOrder()).getMetric() == query.getVectorIndexes().get(key.getKey());
+    }
+
+    private static String similarity(String path, VectorSimilarity similarity, boolean approximated, BindVars bindVars) {
+        double[] vector = similarity.getVector();
+        String value = bindVars.add(vector);
+        boolean cosine = similarity.getMetric() == VectorSimilarity.Metric.COSINE;
+        if (approximated) {
+            return cosine ?
+                    String.format("APPROX_NEAR_COSINE(%s, %s) DESC", path, value) :
+                    String.format("APPROX_NEAR_L2(%s, %s) ASC", path, value);
+        }
+        // null is the smallest value, so that descending order puts the other values last
+        return String.format("(IS_ARRAY(%s) AND LENGTH(%s) == %s ? %s : null) DESC", path, path, bindVars.add(vector.length),
+                cosine ? String.format("COSINE_SIMILARITY(%s, %s)", path, value) : String.format("-L2_DISTANCE(%s, %s)", path, value));
+    }
+
+    private static String sortPath(String var, boolean vertex, String key, BindVars bindVars) {
+        return var + ".properties." + bindVars.add(key) + (vertex ? ".value" : "");
+    }
+
+    private static String filter(String var, boolean vertex, HasContainer container, BindVars bindVars) {
+        if (container.getKey().equals(T.label.getAccessor())) {
+            return predicate(var + ".label", null, container.getPredicate(), bindVars);
+        }
+        String key = bindVars.add(container.getKey());
+        // vertex properties are stored as {value, properties}, edge properties as plain values
+        String path = var + ".properties." + key + (vertex ? ".value" : "");
+        String exists = String.format("HAS(%s.properties, %s)", var, key);
+        return predicate(path, exists, container.getPredicate(), bindVars);
+    }
+
+    /**
+     * Translate the predicate to an AQL condition on the value at path. Gremlin only matches elements that have the
+     * property and never matches values of non-comparable types, therefore range comparisons are guarded by a type
+     * check and negated predicates by an existence check.
+     */
+    private static String predicate(String path, String exists, P<?> predicate, BindVars bindVars) {
+        if (predicate instanceof ConnectiveP) {
+            String operator = predicate instanceof AndP ? " AND " : " OR ";
+            return ((ConnectiveP<?>) predicate).getPredicates().stream()
+                    .map(it -> predicate(path, exists, it, bindVars))
+                    .collect(Collectors.joining(operator, "(", ")"));
+        }
+        Object value = predicate.getValue();
+        BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+        if (biPredicate == Compare.eq) {
+            return String.format("%s == %s", path, bindVars.add(value));
+        } else if (biPredicate == Compare.neq) {
+            return existing(exists, String.format("%s != %s", path, bindVars.add(value)));
+        } else if (biPredicate == Compare.lt) {
+            return compare(path, "<", value, bindVars);
+        } else if (biPredicate == Compare.lte) {
+            return compare(path, "<=", value, bindVars);
+        } else if (biPredicate == Compare.gt) {
+            return compare(path, ">", value, bindVars);
+        } else if (biPredicate == Compare.gte) {
+            return compare(path, ">=", value, bindVars);
+        } else if (biPredicate == Contains.within) {
+            return String.format("%s IN %s", path, bindVars.add(value));
+        } else if (biPredicate == Contains.without) {
+            return existing(exists, String.format("%s NOT IN %s", path, bindVars.add(value)));
+        } else if (biPredicate instanceof Text) {
+            return text(path, (Text) biPredicate, (String) value, bindVars);
+        } else if (biPredicate == Geo.withinDistance) {
+            Geo.Circle circle = (Geo.Circle) value;
+            return String.format("(IS_ARRAY(%s) AND GEO_DISTANCE(%s, %s) <= %s)",
+                    path, bindVars.add(coordinates(circle.getCenter())), path, bindVars.add(circle.getRadius()));
+        } else if (biPredicate == Geo.inside) {
+            List<List<Double>> ring = ((Geo.Polygon) value).getRing().stream()
+                    .map(ArangoDBQueryBuilder::coordinates)
+                    .collect(Collectors.toList());
+            Map<String, Object> polygon = new LinkedHashMap<>();
+            polygon.put("type", "Polygon");
+            polygon.put("coordinates", Collections.singletonList(ring));
+            return String.format("(IS_ARRAY(%s) AND GEO_CONTAINS(%s, %s))", path, bindVars.add(polygon), path);
+        }
+        throw new IllegalArgumentException("Unsupported predicate: " + predicate);
     }
 
-    private static String quote(String id) {
-        return String.format("\"%s\"", id);
+    private static String compare(String path, String operator, Object value, BindVars bindVars) {
+        String typeCheck;
+        if (value instanceof String) {
+            typeCheck = "IS_STRING";
+        } else if (value instanceof Boolean) {
+            typeCheck = "IS_BOOL";
+        } else {
+            typeCheck = "IS_NUMBER";
+        }
+        return String.format("(%s(%s) AND %s %s %s)", typeCheck, path, path, operator, bindVars.add(value));
+    }
+
+    /**
+     * Gremlin only matches string values, with case-sensitive substrings, also for negated predicates.
+     */
+    private static String text(String path, Text text, String value, BindVars bindVars) {
+        String condition;
+        switch (text) {
+            case startingWith:
+            case notStartingWith:
+                condition = String.format("STARTS_WITH(%s, %s)", path, bindVars.add(value));
+                break;
+            case containing:
+            case notContaining:
+                condition = String.format("LIKE(%s, %s)", path, bindVars.add("%" + escapeLike(value) + "%"));
+                break;
+            default:
+                condition = String.format("LIKE(%s, %s)", path, bindVars.add("%" + escapeLike(value)));
+        }
+        boolean negated = text == Text.notStartingWith || text == Text.notContaining || text == Text.notEndingWith;
+        return String.format("(IS_STRING(%s) AND %s%s)", path, negated ? "NOT " : "", condition);
+    }
+
+    /**
+     * Point properties are stored as arrays of longitude and latitude, as GeoJSON coordinates.
+     */
+    private static List<Double> coordinates(double[] point) {
+        return Arrays.asList(point[0], point[1]);
+    }
+
+    private static String existing(String exists, String condition) {
+        return exists == null ? condition : String.format("(%s AND %s)", exists, condition);
     }
 
     private static String toArangoDirection(final Direction direction) {
@@ -107,4 +1016,27 @@ public class ArangoDBQueryBuilder {
         throw new IllegalArgumentException("Unsupported direction: " + direction);
     }
 
+    /**
+     * Bind parameters of a query under construction, named after their position.
+     */
+    private static class BindVars {
+        private final Map<String, Object> values = new HashMap<>();
+
+        String add(Object value) {
+            String name = "p" + values.size();
+            values.put(name, value);
+            return "@" + name;
+        }
+
+        String addCollection(String collection) {
+            String name = "@c" + values.size();
+            values.put(name, collection);
+            return "@" + name;
+        }
+
+        Map<String, Object> get() {
+            return values;
+        }
+    }
+
 }
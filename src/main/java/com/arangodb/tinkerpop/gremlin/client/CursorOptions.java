@@ -0,0 +1,143 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.model.AqlQueryOptions;
+
+/**
+ * Options of the cursors of the AQL queries run by the client, set for the graph by its configuration and overridden
+ * for a traversal with {@code with()}, see {@link com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions}.
+ * Unset options take the default values of the server.
+ */
+public class CursorOptions {
+
+    private Boolean stream;
+    private Integer batchSize;
+    private Integer ttl;
+    private Boolean fillBlockCache;
+    private Long memoryLimit;
+
+    /**
+     * Set whether the results are computed lazily while the batches are fetched, instead of being materialized on the
+     * server before the first batch is returned. If not set, only unbounded scans of the collections are streamed.
+     *
+     * @param stream whether to stream the results
+     * @return this
+     */
+    public CursorOptions stream(Boolean stream) {
+        this.stream = stream;
+        return this;
+    }
+
+    /**
+     * @param batchSize the maximum number of results fetched with a single request
+     * @return this
+     */
+    public CursorOptions batchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param ttl the time in seconds after which the cursor is removed from the server, if not fetched
+     * @return this
+     */
+    public CursorOptions ttl(Integer ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * @param fillBlockCache whether the documents read by the queries are added to the in-memory block cache
+     * @return this
+     */
+    public CursorOptions fillBlockCache(Boolean fillBlockCache) {
+        this.fillBlockCache = fillBlockCache;
+        return this;
+    }
+
+    /**
+     * @param memoryLimit the maximum memory in bytes each query can use on the server, {@code 0} for no limit
+     * @return this
+     */
+    public CursorOptions memoryLimit(Long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+        return this;
+    }
+
+    public Boolean getStream() {
+        return stream;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public Integer getTtl() {
+        return ttl;
+    }
+
+    public Boolean getFillBlockCache() {
+        return fillBlockCache;
+    }
+
+    public Long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * @param overrides the options overriding these ones, or {@code null}
+     * @return new options, with the options set by the overrides and the other ones of these options
+     */
+    public CursorOptions merge(CursorOptions overrides) {
+        CursorOptions merged = new CursorOptions()
+                .stream(stream)
+                .batchSize(batchSize)
+                .ttl(ttl)
+                .fillBlockCache(fillBlockCache)
+                .memoryLimit(memoryLimit);
+        if (null != overrides) {
+            if (null != overrides.stream) {
+                merged.stream = overrides.stream;
+            }
+            if (null != overrides.batchSize) {
+                merged.batchSize = overrides.batchSize;
+            }
+            if (null != overrides.ttl) {
+                merged.ttl = overrides.ttl;
+            }
+            if (null != overrides.fillBlockCache) {
+                merged.fillBlockCache = overrides.fillBlockCache;
+            }
+            if (null != overrides.memoryLimit) {
+                merged.memoryLimit = overrides.memoryLimit;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Set the options on the options of a query.
+     *
+     * @param options the options of the query
+     * @param scan    whether the query is an unbounded scan, streamed unless {@link #stream} is set
+     */
+    void applyTo(AqlQueryOptions options, boolean scan) {
+        if (null != stream ? stream : scan) {
+            options.stream(true);
+        }
+        options.batchSize(batchSize)
+                .ttl(ttl)
+                .fillBlockCache(fillBlockCache)
+                .memoryLimit(memoryLimit);
+    }
+
+    @Override
+    public String toString() {
+        return "CursorOptions{" +
+                "stream=" + stream +
+                ", batchSize=" + batchSize +
+                ", ttl=" + ttl +
+                ", fillBlockCache=" + fillBlockCache +
+                ", memoryLimit=" + memoryLimit +
+                '}';
+    }
+}
@@ -0,0 +1,256 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Describes the parts of a graph traversal that are evaluated on the server while reading vertex or edge documents,
+ * see {@link ArangoDBQueryBuilder#readDocuments(java.util.Set, java.util.List, DocumentQuery)}.
+ */
+public class DocumentQuery {
+
+    private final Class<? extends Element> elementClass;
+    private final List<HasContainer> filters = new ArrayList<>();
+    private final List<SortKey> sortKeys = new ArrayList<>();
+    private long low = 0;
+    private long high = -1;
+    private boolean reversed;
+    private Set<String> projection;
+    private String searchView;
+    private Set<String> searchKeys = Collections.emptySet();
+    private boolean searchWaitForSync;
+    private Map<String, VectorSimilarity.Metric> vectorIndexes = Collections.emptyMap();
+
+    public DocumentQuery(Class<? extends Element> elementClass) {
+        this.elementClass = elementClass;
+    }
+
+    /**
+     * Add filters to the query, all of them must be supported by {@link ArangoDBQueryBuilder#isFilterSupported(HasContainer)}.
+     *
+     * @param filters the filters to add
+     * @return this
+     */
+    public DocumentQuery filters(List<HasContainer> filters) {
+        this.filters.addAll(filters);
+        return this;
+    }
+
+    /**
+     * Sort the results by the given key, after the previous sort keys. Documents without such property are excluded
+     * from the results.
+     *
+     * @param key       the property key
+     * @param ascending whether the order is ascending
+     * @return this
+     */
+    public DocumentQuery sort(String key, boolean ascending) {
+        this.sortKeys.add(new SortKey(key, ascending));
+        return this;
+    }
+
+    /**
+     * Sort the results by the given property with a comparator evaluated in AQL, after the previous sort keys, i.e.
+     * by the distance of a point property with {@link com.arangodb.tinkerpop.gremlin.process.traversal.GeoDistance},
+     * in which case documents without such property are excluded from the results, or by the similarity of a vector
+     * property with {@link com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity}.
+     *
+     * @param key   the property key
+     * @param order the comparator
+     * @return this
+     */
+    public DocumentQuery sort(String key, Comparator<Object> order) {
+        this.sortKeys.add(new SortKey(key, order));
+        return this;
+    }
+
+    /**
+     * Only return the documents in the given range of the results, applied after the filters.
+     *
+     * @param low  the number of documents to skip
+     * @param high the end of the range, exclusive, {@code -1} for no upper bound
+     * @return this
+     */
+    public DocumentQuery range(long low, long high) {
+        this.low = low;
+        this.high = high;
+        return this;
+    }
+
+    /**
+     * Apply the range to the documents in the reverse order of the sort keys, e.g. to take the last ones, which are
+     * still returned in the order of the sort keys. The sort keys must not have comparators.
+     *
+     * @return this
+     */
+    public DocumentQuery reverse() {
+        this.reversed = true;
+        return this;
+    }
+
+    /**
+     * Only read the given properties of the documents, together with their ids and labels.
+     *
+     * @param keys the property keys to read
+     * @return this
+     */
+    public DocumentQuery projection(Set<String> keys) {
+        this.projection = keys;
+        return this;
+    }
+
+    /**
+     * Evaluate the text filters on the given properties with an ArangoSearch view over inverted indexes of the
+     * queried collections, instead of scanning the collections.
+     *
+     * @param view        the name of the view
+     * @param keys        the property keys indexed by the view
+     * @param waitForSync whether to wait for the view to include the latest changes
+     * @return this
+     */
+    public DocumentQuery search(String view, Set<String> keys, boolean waitForSync) {
+        this.searchView = view;
+        this.searchKeys = keys;
+        this.searchWaitForSync = waitForSync;
+        return this;
+    }
+
+    /**
+     * Approximate the limited sorts by similarity of the given properties with their vector indexes, which exist in
+     * all the queried collections.
+     *
+     * @param indexes the metrics of the vector indexes, by property key
+     * @return this
+     */
+    public DocumentQuery vectorIndexes(Map<String, VectorSimilarity.Metric> indexes) {
+        this.vectorIndexes = indexes;
+        return this;
+    }
+
+    public boolean isVertexQuery() {
+        return Vertex.class.isAssignableFrom(elementClass);
+    }
+
+    public Optional<Set<String>> getProjection() {
+        return Optional.ofNullable(projection);
+    }
+
+    public List<HasContainer> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    public List<SortKey> getSortKeys() {
+        return Collections.unmodifiableList(sortKeys);
+    }
+
+    public String getSearchView() {
+        return searchView;
+    }
+
+    public Set<String> getSearchKeys() {
+        return Collections.unmodifiableSet(searchKeys);
+    }
+
+    public boolean isSearchWaitForSync() {
+        return searchWaitForSync;
+    }
+
+    public Map<String, VectorSimilarity.Metric> getVectorIndexes() {
+        return Collections.unmodifiableMap(vectorIndexes);
+    }
+
+    public boolean isReversed() {
+        return reversed;
+    }
+
+    public boolean hasRange() {
+        return low > 0 || high >= 0;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentQuery{" +
+                "elementClass=" + elementClass.getSimpleName() +
+                ", filters=" + filters +
+                ", sortKeys=" + sortKeys +
+                ", low=" + low +
+                ", high=" + high +
+                ", reversed=" + reversed +
+                ", projection=" + projection +
+                ", searchView=" + searchView +
+                '}';
+    }
+
+    public static final class SortKey {
+        private final String key;
+        private final boolean ascending;
+        private final Comparator<Object> order;
+
+        public SortKey(String key, boolean ascending) {
+            this.key = key;
+            this.ascending = ascending;
+            this.order = null;
+        }
+
+        public SortKey(String key, Comparator<Object> order) {
+            this.key = key;
+            this.ascending = true;
+            this.order = order;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public boolean isAscending() {
+            return ascending;
+        }
+
+        /**
+         * @return the comparator to sort by, or {@code null} to sort by value
+         */
+        public Comparator<Object> getOrder() {
+            return order;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SortKey sortKey = (SortKey) o;
+            return ascending == sortKey.ascending && Objects.equals(key, sortKey.key) && Objects.equals(order, sortKey.order);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, ascending, order);
+        }
+
+        @Override
+        public String toString() {
+            if (order != null) {
+                return key + " " + order;
+            }
+            return key + (ascending ? " ASC" : " DESC");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.Objects;
+
+/**
+ * Describes the grouping of the documents read by a {@link DocumentQuery}, that is translated to an AQL
+ * {@code COLLECT} by {@link ArangoDBQueryBuilder#groupDocuments(java.util.Set, java.util.List, DocumentQuery, GroupQuery)}.
+ */
+public class GroupQuery {
+
+    /**
+     * The reduction of the documents of each group.
+     */
+    public enum Reducer {
+        /**
+         * The number of documents.
+         */
+        COUNT,
+        /**
+         * The sum of the values of a property, groups without such values are omitted.
+         */
+        SUM,
+        /**
+         * The list of the values of a property.
+         */
+        FOLD
+    }
+
+    private final String key;
+    private final Reducer reducer;
+    private final String valueKey;
+
+    /**
+     * @param key      the property key to group by, or the accessor of {@link T#label}
+     * @param reducer  the reduction of the documents of each group
+     * @param valueKey the property key to reduce, {@code null} for {@link Reducer#COUNT}
+     */
+    public GroupQuery(String key, Reducer reducer, String valueKey) {
+        this.key = key;
+        this.reducer = reducer;
+        this.valueKey = valueKey;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Reducer getReducer() {
+        return reducer;
+    }
+
+    public String getValueKey() {
+        return valueKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GroupQuery that = (GroupQuery) o;
+        return Objects.equals(key, that.key) && reducer == that.reducer && Objects.equals(valueKey, that.valueKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, reducer, valueKey);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupQuery{" +
+                "key=" + key +
+                ", reducer=" + reducer +
+                ", valueKey=" + valueKey +
+                '}';
+    }
+}
@@ -0,0 +1,118 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.*;
+
+/**
+ * Describes a repeated adjacency hop starting from a vertex, e.g.
+ * {@code repeat(out("knows")).until(has("name", "x").or().loops().is(5))}, that is translated to a single
+ * variable-depth AQL traversal by
+ * {@link ArangoDBQueryBuilder#readVertexRepeat(String, com.arangodb.tinkerpop.gremlin.persistence.ElementId, RepeatQuery)}.
+ */
+public class RepeatQuery {
+
+    private final Direction direction;
+    private final Set<String> edgeCollections;
+    private final List<String> labels;
+    private int minDepth;
+    private int maxDepth;
+    private final List<HasContainer> untilFilters = new ArrayList<>();
+    private boolean untilStart;
+    private boolean emit;
+
+    /**
+     * @param direction       the direction of the repeated hop
+     * @param edgeCollections the edge collections to traverse
+     * @param labels          the edge labels to match, if empty all edges are matched
+     */
+    public RepeatQuery(Direction direction, Set<String> edgeCollections, String... labels) {
+        this.direction = direction;
+        this.edgeCollections = edgeCollections;
+        this.labels = Arrays.asList(labels);
+    }
+
+    /**
+     * Only return the vertices reached at the given depths.
+     *
+     * @param minDepth the minimum depth, {@code 0} to include the start vertex
+     * @param maxDepth the maximum depth, at which the traversal stops
+     * @return this
+     */
+    public RepeatQuery depth(int minDepth, int maxDepth) {
+        this.minDepth = minDepth;
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Stop traversing from the vertices matching all the given filters, which must be supported by
+     * {@link ArangoDBQueryBuilder#isFilterSupported(HasContainer)}. Unless {@link #emit()} is set, only such vertices
+     * and the ones at the maximum depth are returned.
+     *
+     * @param filters the filters to match
+     * @param start   whether the start vertex is tested as well
+     * @return this
+     */
+    public RepeatQuery until(List<HasContainer> filters, boolean start) {
+        this.untilFilters.addAll(filters);
+        this.untilStart = start;
+        return this;
+    }
+
+    /**
+     * Return all the vertices reached in the depth range, not only the ones matching the until filters.
+     *
+     * @return this
+     */
+    public RepeatQuery emit() {
+        this.emit = true;
+        return this;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public Set<String> getEdgeCollections() {
+        return edgeCollections;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public int getMinDepth() {
+        return minDepth;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public List<HasContainer> getUntilFilters() {
+        return Collections.unmodifiableList(untilFilters);
+    }
+
+    public boolean isUntilStart() {
+        return untilStart;
+    }
+
+    public boolean isEmit() {
+        return emit;
+    }
+
+    @Override
+    public String toString() {
+        return "RepeatQuery{" +
+                "direction=" + direction +
+                ", labels=" + labels +
+                ", minDepth=" + minDepth +
+                ", maxDepth=" + maxDepth +
+                ", untilFilters=" + untilFilters +
+                ", untilStart=" + untilStart +
+                ", emit=" + emit +
+                '}';
+    }
+}
@@ -0,0 +1,190 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.*;
+
+/**
+ * Describes a search of the shortest paths from a vertex to the vertices matching the target filters, that is
+ * translated to a single AQL query by
+ * {@link ArangoDBQueryBuilder#searchShortestPaths(com.arangodb.tinkerpop.gremlin.persistence.ElementId, Set, List, ShortestPathQuery)}
+ * or {@link ArangoDBQueryBuilder#enumerateShortestPaths(String, com.arangodb.tinkerpop.gremlin.persistence.ElementId, List, ShortestPathQuery)}.
+ */
+public class ShortestPathQuery {
+
+    /**
+     * The paths to return for each target vertex, named after the AQL path search returning them.
+     */
+    public enum Algorithm {
+        /**
+         * All the paths of minimal length, as Gremlin does.
+         */
+        ALL_SHORTEST_PATHS,
+        /**
+         * The first k paths, sorted by length.
+         */
+        K_SHORTEST_PATHS,
+        /**
+         * A single path of minimal length.
+         */
+        SHORTEST_PATH
+    }
+
+    private final Direction direction;
+    private final Set<String> edgeCollections;
+    private final List<String> labels;
+    private final List<HasContainer> targetFilters = new ArrayList<>();
+    private Algorithm algorithm = Algorithm.ALL_SHORTEST_PATHS;
+    private int k = 1;
+    private String weightKey;
+    private Number maxDistance;
+    private Integer maxDepth;
+    private boolean includeEdges;
+
+    /**
+     * @param direction       the direction of the edges to follow
+     * @param edgeCollections the edge collections to follow
+     * @param labels          the edge labels to match, if empty all edges are matched
+     */
+    public ShortestPathQuery(Direction direction, Set<String> edgeCollections, String... labels) {
+        this.direction = direction;
+        this.edgeCollections = edgeCollections;
+        this.labels = Arrays.asList(labels);
+    }
+
+    /**
+     * Only search paths to the vertices matching the given filters, which must be supported by
+     * {@link ArangoDBQueryBuilder#isFilterSupported(HasContainer)}.
+     *
+     * @param filters the filters to match
+     * @return this
+     */
+    public ShortestPathQuery targets(List<HasContainer> filters) {
+        this.targetFilters.addAll(filters);
+        return this;
+    }
+
+    /**
+     * @param algorithm the paths to return for each target vertex
+     * @param k         the number of paths to return for each target vertex, for {@link Algorithm#K_SHORTEST_PATHS}
+     * @return this
+     */
+    public ShortestPathQuery algorithm(Algorithm algorithm, int k) {
+        this.algorithm = algorithm;
+        this.k = k;
+        return this;
+    }
+
+    /**
+     * Measure the length of paths as the sum of the given edge property, instead of the number of edges.
+     *
+     * @param key the edge property key
+     * @return this
+     */
+    public ShortestPathQuery weight(String key) {
+        this.weightKey = key;
+        return this;
+    }
+
+    /**
+     * Only return the paths not longer than the given distance.
+     *
+     * @param maxDistance the maximum length
+     * @return this
+     */
+    public ShortestPathQuery maxDistance(Number maxDistance) {
+        this.maxDistance = maxDistance;
+        return this;
+    }
+
+    /**
+     * Bound the number of edges of the paths enumerated on the server when AQL path searches cannot be used, see
+     * {@link ArangoDBQueryBuilder#enumerateShortestPaths}.
+     *
+     * @param maxDepth the maximum number of edges
+     * @return this
+     */
+    public ShortestPathQuery maxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Return the edges of the paths together with their vertices.
+     *
+     * @return this
+     */
+    public ShortestPathQuery includeEdges() {
+        this.includeEdges = true;
+        return this;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public Set<String> getEdgeCollections() {
+        return edgeCollections;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public List<HasContainer> getTargetFilters() {
+        return Collections.unmodifiableList(targetFilters);
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public Optional<String> getWeightKey() {
+        return Optional.ofNullable(weightKey);
+    }
+
+    public Optional<Number> getMaxDistance() {
+        return Optional.ofNullable(maxDistance);
+    }
+
+    public Optional<Integer> getMaxDepth() {
+        return Optional.ofNullable(maxDepth);
+    }
+
+    /**
+     * @return the maximum number of edges of the paths to enumerate: the explicit maximum depth, or the maximum
+     * distance when counting hops, whichever is smaller, or empty if the depth is unbounded
+     */
+    public Optional<Integer> getDepthBound() {
+        Optional<Integer> hops = weightKey == null && maxDistance != null ?
+                Optional.of((int) Math.floor(maxDistance.doubleValue())) : Optional.empty();
+        if (maxDepth == null) {
+            return hops;
+        }
+        return Optional.of(hops.map(it -> Math.min(it, maxDepth)).orElse(maxDepth));
+    }
+
+    public boolean isIncludeEdges() {
+        return includeEdges;
+    }
+
+    @Override
+    public String toString() {
+        return "ShortestPathQuery{" +
+                "direction=" + direction +
+                ", labels=" + labels +
+                ", targetFilters=" + targetFilters +
+                ", algorithm=" + algorithm +
+                ", k=" + k +
+                ", weightKey=" + weightKey +
+                ", maxDistance=" + maxDistance +
+                ", maxDepth=" + maxDepth +
+                ", includeEdges=" + includeEdges +
+                '}';
+    }
+}
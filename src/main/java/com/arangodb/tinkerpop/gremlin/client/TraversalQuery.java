@@ -0,0 +1,122 @@
+package com.arangodb.tinkerpop.gremlin.client;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.*;
+
+/**
+ * Describes a sequence of adjacency hops starting from a vertex, that is translated to a single AQL query for a
+ * batch of start vertices by {@link ArangoDBQueryBuilder#readVertexNeighbors(String, java.util.List, TraversalQuery)}.
+ */
+public class TraversalQuery {
+
+    private final List<Hop> hops = new ArrayList<>();
+    private Long limit;
+    private Set<String> projection;
+
+    /**
+     * Add a hop to the traversal.
+     *
+     * @param direction       the direction of the hop
+     * @param edgeCollections the edge collections to traverse
+     * @param labels          the edge labels to match, if empty all edges are matched
+     * @return this
+     */
+    public TraversalQuery hop(Direction direction, Set<String> edgeCollections, String... labels) {
+        return hop(direction, edgeCollections, Collections.emptyList(), labels);
+    }
+
+    /**
+     * Add a hop to the traversal, only following the edges matching the given filters, which must be supported by
+     * {@link ArangoDBQueryBuilder#isFilterSupported(HasContainer)}.
+     *
+     * @param direction       the direction of the hop
+     * @param edgeCollections the edge collections to traverse
+     * @param edgeFilters     the filters the edges must match
+     * @param labels          the edge labels to match, if empty all edges are matched
+     * @return this
+     */
+    public TraversalQuery hop(Direction direction, Set<String> edgeCollections, List<HasContainer> edgeFilters, String... labels) {
+        hops.add(new Hop(direction, edgeCollections, edgeFilters, labels));
+        return this;
+    }
+
+    /**
+     * Limit the number of results of the traversal.
+     *
+     * @param limit the maximum number of results
+     * @return this
+     */
+    public TraversalQuery limit(long limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Only read the given properties of the results, together with their ids and labels.
+     *
+     * @param keys the property keys to read
+     * @return this
+     */
+    public TraversalQuery projection(Set<String> keys) {
+        this.projection = keys;
+        return this;
+    }
+
+    public Optional<Set<String>> getProjection() {
+        return Optional.ofNullable(projection);
+    }
+
+    public List<Hop> getHops() {
+        return Collections.unmodifiableList(hops);
+    }
+
+    public Optional<Long> getLimit() {
+        return Optional.ofNullable(limit);
+    }
+
+    @Override
+    public String toString() {
+        return "TraversalQuery{" +
+                "hops=" + hops +
+                ", limit=" + limit +
+                ", projection=" + projection +
+                '}';
+    }
+
+    public static final class Hop {
+        private final Direction direction;
+        private final Set<String> edgeCollections;
+        private final List<String> labels;
+        private final List<HasContainer> edgeFilters;
+
+        private Hop(Direction direction, Set<String> edgeCollections, List<HasContainer> edgeFilters, String... labels) {
+            this.direction = direction;
+            this.edgeCollections = edgeCollections;
+            this.edgeFilters = new ArrayList<>(edgeFilters);
+            this.labels = Arrays.asList(labels);
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+
+        public Set<String> getEdgeCollections() {
+            return edgeCollections;
+        }
+
+        public List<String> getLabels() {
+            return labels;
+        }
+
+        public List<HasContainer> getEdgeFilters() {
+            return Collections.unmodifiableList(edgeFilters);
+        }
+
+        @Override
+        public String toString() {
+            return direction + labels.toString() + (edgeFilters.isEmpty() ? "" : edgeFilters.toString());
+        }
+    }
+}
@@ -9,6 +9,8 @@
 package com.arangodb.tinkerpop.gremlin.jsr223;
 
 import com.arangodb.tinkerpop.gremlin.persistence.*;
+import com.arangodb.tinkerpop.gremlin.process.traversal.*;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.*;
 import org.apache.tinkerpop.gremlin.jsr223.AbstractGremlinPlugin;
 import org.apache.tinkerpop.gremlin.jsr223.DefaultImportCustomizer;
 import org.apache.tinkerpop.gremlin.jsr223.ImportCustomizer;
@@ -42,11 +44,31 @@ public class ArangoDBGremlinPlugin extends AbstractGremlinPlugin {
 
                             // persistence
                             EdgeData.class,
+                            NeighborData.class,
+                            PathData.class,
                             PersistentData.class,
                             PropertiesContainer.class,
                             VariablesData.class,
                             VertexData.class,
-                            VertexPropertyData.class
+                            VertexPropertyData.class,
+
+                            // process
+                            ArangoDBAddElementStrategy.class,
+                            ArangoDBAddPropertyStrategy.class,
+                            ArangoDBCountStrategy.class,
+                            ArangoDBDropStrategy.class,
+                            ArangoDBEdgeVertexStepStrategy.class,
+                            ArangoDBGraphStepStrategy.class,
+                            ArangoDBGroupStrategy.class,
+                            ArangoDBMergeStrategy.class,
+                            ArangoDBProjectionStrategy.class,
+                            ArangoDBRepeatStrategy.class,
+                            ArangoDBShortestPathStrategy.class,
+                            ArangoDBVertexStepStrategy.class,
+                            Geo.class,
+                            GeoDistance.class,
+                            GeoP.class,
+                            VectorSimilarity.class
                     )
                     .create();
         } catch (Exception ex) {
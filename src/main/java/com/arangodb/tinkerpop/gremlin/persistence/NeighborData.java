@@ -0,0 +1,59 @@
+package com.arangodb.tinkerpop.gremlin.persistence;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Element reached by an AQL traversal of several start vertices, together with the start vertex it was reached from.
+ */
+public class NeighborData {
+
+    @JsonProperty
+    private ElementId start;
+
+    @JsonProperty
+    private VertexData vertex;
+
+    @JsonProperty
+    private EdgeData edge;
+
+    public ElementId getStart() {
+        return start;
+    }
+
+    /**
+     * @return the reached vertex, or {@code null} if the traversal returned edges
+     */
+    public VertexData getVertex() {
+        return vertex;
+    }
+
+    /**
+     * @return the reached edge, or {@code null} if the traversal returned vertices
+     */
+    public EdgeData getEdge() {
+        return edge;
+    }
+
+    @Override
+    public String toString() {
+        return "NeighborData{" +
+                "start=" + start +
+                ", vertex=" + vertex +
+                ", edge=" + edge +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof NeighborData)) return false;
+        NeighborData that = (NeighborData) o;
+        return Objects.equals(start, that.start) && Objects.equals(vertex, that.vertex) && Objects.equals(edge, that.edge);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, vertex, edge);
+    }
+}
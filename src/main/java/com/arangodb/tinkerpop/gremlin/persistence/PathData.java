@@ -0,0 +1,47 @@
+package com.arangodb.tinkerpop.gremlin.persistence;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Path returned by AQL path searches, i.e. its vertices and, if requested, the edges between them.
+ */
+public class PathData {
+
+    @JsonProperty
+    private List<VertexData> vertices = new ArrayList<>();
+
+    @JsonProperty
+    private List<EdgeData> edges = new ArrayList<>();
+
+    public List<VertexData> getVertices() {
+        return vertices;
+    }
+
+    public List<EdgeData> getEdges() {
+        return edges;
+    }
+
+    @Override
+    public String toString() {
+        return "PathData{" +
+                "vertices=" + vertices +
+                ", edges=" + edges +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PathData)) return false;
+        PathData pathData = (PathData) o;
+        return Objects.equals(vertices, pathData.vertices) && Objects.equals(edges, pathData.edges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vertices, edges);
+    }
+}
@@ -44,9 +44,12 @@ public interface PersistentData {
     }
 
     default void update(DocumentEntity entity) {
-        String k = entity.getKey();
-        setKey(k);
-        setId(elementId().withKey(k));
+        update(entity.getKey());
+    }
+
+    default void update(String key) {
+        setKey(key);
+        setId(elementId().withKey(key));
     }
 
 }
@@ -0,0 +1,69 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal;
+
+import com.arangodb.tinkerpop.gremlin.client.CursorOptions;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.OptionsStrategy;
+
+import java.util.Map;
+
+/**
+ * Cursor options of the AQL queries of a traversal, to be passed with {@code with()}, e.g.
+ * {@code g.with(ArangoDBCursorOptions.stream, true).with(ArangoDBCursorOptions.batchSize, 10000).V()}. They override
+ * the ones of the graph configuration, see {@link CursorOptions}.
+ */
+public final class ArangoDBCursorOptions {
+
+    /**
+     * Whether the results are computed lazily while they are fetched, by default only for unbounded scans.
+     */
+    public static final String stream = "arangodb.cursor.stream";
+
+    /**
+     * The maximum number of results fetched with a single request.
+     */
+    public static final String batchSize = "arangodb.cursor.batchSize";
+
+    /**
+     * The time in seconds after which the cursors are removed from the server, if not fetched.
+     */
+    public static final String ttl = "arangodb.cursor.ttl";
+
+    /**
+     * Whether the documents read by the queries are added to the in-memory block cache.
+     */
+    public static final String fillBlockCache = "arangodb.cursor.fillBlockCache";
+
+    /**
+     * The maximum memory in bytes each query can use on the server.
+     */
+    public static final String memoryLimit = "arangodb.cursor.memoryLimit";
+
+    private ArangoDBCursorOptions() {
+    }
+
+    /**
+     * @param traversal the traversal, or a child traversal of it
+     * @return the cursor options set on the traversal, or {@code null} if none
+     */
+    public static CursorOptions of(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getStrategies().getStrategy(OptionsStrategy.class)
+                .map(it -> of(it.getOptions()))
+                .orElse(null);
+    }
+
+    private static CursorOptions of(final Map<String, Object> options) {
+        if (options.keySet().stream().noneMatch(it -> it.startsWith("arangodb.cursor."))) {
+            return null;
+        }
+        return new CursorOptions()
+                .stream((Boolean) options.get(stream))
+                .batchSize(intValue(options.get(batchSize)))
+                .ttl(intValue(options.get(ttl)))
+                .fillBlockCache((Boolean) options.get(fillBlockCache))
+                .memoryLimit(null == options.get(memoryLimit) ? null : ((Number) options.get(memoryLimit)).longValue());
+    }
+
+    private static Integer intValue(final Object value) {
+        return null == value ? null : ((Number) value).intValue();
+    }
+}
@@ -0,0 +1,198 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal;
+
+import org.apache.tinkerpop.gremlin.process.traversal.PBiPredicate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Geo-spatial predicates on point properties, i.e. {@code double[]} values holding the longitude and the latitude of
+ * the point in this order, as GeoJSON does, see {@link GeoP}. In AQL they are evaluated with {@code GEO_DISTANCE()}
+ * and {@code GEO_CONTAINS()}, which use the geo indexes of the property, if any.
+ */
+public enum Geo implements PBiPredicate<Object, Object> {
+
+    /**
+     * Whether the point is at most at the radius of a {@link Circle} from its center.
+     */
+    withinDistance {
+        @Override
+        public boolean test(final Object value, final Object circle) {
+            final double[] point = point(value);
+            return null != point && distance(point, ((Circle) circle).getCenter()) <= ((Circle) circle).getRadius();
+        }
+    },
+
+    /**
+     * Whether the point is inside a {@link Polygon}. Unlike AQL, which follows the great circles between the vertices
+     * of the polygon, the client evaluates the polygon on the plane of longitudes and latitudes.
+     */
+    inside {
+        @Override
+        public boolean test(final Object value, final Object polygon) {
+            final double[] point = point(value);
+            return null != point && ((Polygon) polygon).contains(point);
+        }
+    };
+
+    /**
+     * Mean radius of the earth in meters, as used by AQL.
+     */
+    private static final double EARTH_RADIUS = 6371000;
+
+    /**
+     * Read a point property value, either as written or as read from the database.
+     *
+     * @param value the property value
+     * @return the longitude and the latitude of the point, or {@code null} if the value is not a point
+     */
+    public static double[] point(final Object value) {
+        if (value instanceof double[] && ((double[]) value).length == 2) {
+            return (double[]) value;
+        }
+        if (value instanceof List && ((List<?>) value).size() == 2
+                && ((List<?>) value).stream().allMatch(Number.class::isInstance)) {
+            return new double[]{((Number) ((List<?>) value).get(0)).doubleValue(), ((Number) ((List<?>) value).get(1)).doubleValue()};
+        }
+        return null;
+    }
+
+    /**
+     * Distance in meters between two points on the earth, with the haversine formula.
+     */
+    public static double distance(final double[] a, final double[] b) {
+        final double dLat = Math.toRadians(b[1] - a[1]);
+        final double dLon = Math.toRadians(b[0] - a[0]);
+        final double h = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(a[1])) * Math.cos(Math.toRadians(b[1])) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+    static double[] validPoint(final double longitude, final double latitude) {
+        if (!(longitude >= -180 && longitude <= 180) || !(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Invalid point: [" + longitude + ", " + latitude + "]");
+        }
+        return new double[]{longitude, latitude};
+    }
+
+    /**
+     * The points at most at some distance from a center.
+     */
+    public static final class Circle implements Serializable {
+        private final double[] center;
+        private final double radius;
+
+        public Circle(final double longitude, final double latitude, final double radius) {
+            if (!(radius >= 0) || Double.isInfinite(radius)) {
+                throw new IllegalArgumentException("Invalid radius: " + radius);
+            }
+            this.center = validPoint(longitude, latitude);
+            this.radius = radius;
+        }
+
+        /**
+         * @return the longitude and the latitude of the center
+         */
+        public double[] getCenter() {
+            return center.clone();
+        }
+
+        /**
+         * @return the radius in meters
+         */
+        public double getRadius() {
+            return radius;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Circle circle = (Circle) o;
+            return radius == circle.radius && Arrays.equals(center, circle.center);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(center) + Double.hashCode(radius);
+        }
+
+        @Override
+        public String toString() {
+            return "circle(" + Arrays.toString(center) + ", " + radius + ")";
+        }
+    }
+
+    /**
+     * The points inside a closed ring of vertices.
+     */
+    public static final class Polygon implements Serializable {
+        private final List<double[]> ring;
+
+        /**
+         * @param vertices the longitude and the latitude of each vertex, the ring is closed if it is not
+         */
+        public Polygon(final double[]... vertices) {
+            final List<double[]> ring = new ArrayList<>();
+            for (final double[] vertex : vertices) {
+                if (null == vertex || vertex.length != 2) {
+                    throw new IllegalArgumentException("Invalid polygon vertex: " + Arrays.toString(vertex));
+                }
+                ring.add(validPoint(vertex[0], vertex[1]));
+            }
+            if (!ring.isEmpty() && !Arrays.equals(ring.get(0), ring.get(ring.size() - 1))) {
+                ring.add(ring.get(0));
+            }
+            if (ring.size() < 4) {
+                throw new IllegalArgumentException("A polygon requires at least 3 distinct vertices");
+            }
+            this.ring = Collections.unmodifiableList(ring);
+        }
+
+        /**
+         * @return the closed ring of vertices
+         */
+        public List<double[]> getRing() {
+            return ring;
+        }
+
+        boolean contains(final double[] point) {
+            boolean inside = false;
+            for (int i = 1; i < ring.size(); i++) {
+                final double[] a = ring.get(i - 1);
+                final double[] b = ring.get(i);
+                if ((a[1] > point[1]) != (b[1] > point[1])
+                        && point[0] < (b[0] - a[0]) * (point[1] - a[1]) / (b[1] - a[1]) + a[0]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Polygon polygon = (Polygon) o;
+            if (ring.size() != polygon.ring.size()) return false;
+            for (int i = 0; i < ring.size(); i++) {
+                if (!Arrays.equals(ring.get(i), polygon.ring.get(i))) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return ring.stream().mapToInt(Arrays::hashCode).reduce(1, (a, b) -> 31 * a + b);
+        }
+
+        @Override
+        public String toString() {
+            return ring.stream().map(Arrays::toString).collect(Collectors.joining(", ", "polygon(", ")"));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Orders point properties by their distance from an origin, nearest first, e.g.
+ * {@code g.V().order().by("location", GeoDistance.from(6.96, 50.94)).limit(5)} for the 5 nearest vertices, see
+ * {@link Geo}. Folded into graph steps, the order is evaluated by the database with {@code GEO_DISTANCE()}, using the
+ * geo indexes of the property, if any. Values that are not points come first, as in AQL.
+ */
+public final class GeoDistance implements Comparator<Object>, Serializable {
+
+    private final double[] origin;
+
+    private GeoDistance(final double[] origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * @param longitude the longitude of the origin
+     * @param latitude  the latitude of the origin
+     * @return the comparator
+     */
+    public static GeoDistance from(final double longitude, final double latitude) {
+        return new GeoDistance(Geo.validPoint(longitude, latitude));
+    }
+
+    /**
+     * @return the longitude and the latitude of the origin
+     */
+    public double[] getOrigin() {
+        return origin.clone();
+    }
+
+    @Override
+    public int compare(final Object a, final Object b) {
+        return Double.compare(distance(a), distance(b));
+    }
+
+    private double distance(final Object value) {
+        final double[] point = Geo.point(value);
+        return null == point ? Double.NEGATIVE_INFINITY : Geo.distance(origin, point);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof GeoDistance && Arrays.equals(origin, ((GeoDistance) o).origin);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(origin);
+    }
+
+    @Override
+    public String toString() {
+        return "distance" + Arrays.toString(origin);
+    }
+}
@@ -0,0 +1,37 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+
+/**
+ * Geo-spatial predicates for {@code has()} steps on point properties, e.g.
+ * {@code g.V().has("location", GeoP.withinDistance(6.96, 50.94, 5000))}, see {@link Geo}. Folded into graph steps,
+ * they are evaluated by the database, using the geo indexes of the property, if any.
+ */
+public class GeoP extends P<Object> {
+
+    public GeoP(final Geo geo, final Object value) {
+        super(geo, value);
+    }
+
+    /**
+     * Match points at most at the given distance from a center.
+     *
+     * @param longitude the longitude of the center
+     * @param latitude  the latitude of the center
+     * @param meters    the maximum distance in meters
+     * @return the predicate
+     */
+    public static GeoP withinDistance(final double longitude, final double latitude, final double meters) {
+        return new GeoP(Geo.withinDistance, new Geo.Circle(longitude, latitude, meters));
+    }
+
+    /**
+     * Match points inside a polygon.
+     *
+     * @param vertices the longitude and the latitude of each vertex of the polygon
+     * @return the predicate
+     */
+    public static GeoP inside(final double[]... vertices) {
+        return new GeoP(Geo.inside, new Geo.Polygon(vertices));
+    }
+}
@@ -0,0 +1,134 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders vector properties, i.e. {@code double[]} values, by their similarity to a query vector, most similar first,
+ * e.g. {@code g.V().hasLabel("doc").order().by("embedding", VectorSimilarity.cosine(vector)).limit(10)} for the 10
+ * nearest neighbors, which can be followed by further steps, e.g. {@code out("cites")}.
+ * <p>
+ * Folded into graph steps together with a {@code limit()} and without filters, the order of a property with a vector
+ * index of the same metric in the queried collections, see
+ * {@link com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph#createVertexVectorIndex}, is evaluated by the database
+ * with {@code APPROX_NEAR_COSINE()} or {@code APPROX_NEAR_L2()}, which return approximate results. Otherwise the exact
+ * similarity is evaluated, since vector indexes apply filters after selecting the nearest documents and could return
+ * fewer results. Values that are not vectors of the same dimension come last.
+ */
+public final class VectorSimilarity implements Comparator<Object>, Serializable {
+
+    public enum Metric {
+        /**
+         * Cosine similarity, the greater the more similar.
+         */
+        COSINE("cosine"),
+
+        /**
+         * Euclidean distance, the smaller the more similar.
+         */
+        L2("l2");
+
+        private final String name;
+
+        Metric(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the name of the metric in vector index definitions
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final Metric metric;
+    private final double[] vector;
+
+    private VectorSimilarity(final Metric metric, final double[] vector) {
+        if (null == vector || vector.length == 0 || Arrays.stream(vector).anyMatch(it -> !Double.isFinite(it))) {
+            throw new IllegalArgumentException("Invalid vector: " + Arrays.toString(vector));
+        }
+        this.metric = metric;
+        this.vector = vector.clone();
+    }
+
+    /**
+     * @param vector the query vector
+     * @return the comparator by cosine similarity to the query vector
+     */
+    public static VectorSimilarity cosine(final double... vector) {
+        return new VectorSimilarity(Metric.COSINE, vector);
+    }
+
+    /**
+     * @param vector the query vector
+     * @return the comparator by euclidean distance from the query vector
+     */
+    public static VectorSimilarity l2(final double... vector) {
+        return new VectorSimilarity(Metric.L2, vector);
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * @return the query vector
+     */
+    public double[] getVector() {
+        return vector.clone();
+    }
+
+    @Override
+    public int compare(final Object a, final Object b) {
+        return Double.compare(dissimilarity(a), dissimilarity(b));
+    }
+
+    private double dissimilarity(final Object value) {
+        final double[] other = vector(value);
+        if (null == other) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double dot = 0, norm = 0, otherNorm = 0, squares = 0;
+        for (int i = 0; i < vector.length; i++) {
+            dot += vector[i] * other[i];
+            norm += vector[i] * vector[i];
+            otherNorm += other[i] * other[i];
+            squares += (vector[i] - other[i]) * (vector[i] - other[i]);
+        }
+        return metric == Metric.COSINE ? -dot / Math.sqrt(norm * otherNorm) : Math.sqrt(squares);
+    }
+
+    /**
+     * Read a vector property value of the same dimension, either as written or as read from the database.
+     */
+    private double[] vector(final Object value) {
+        if (value instanceof double[]) {
+            return ((double[]) value).length == vector.length ? (double[]) value : null;
+        }
+        if (value instanceof List && ((List<?>) value).size() == vector.length
+                && ((List<?>) value).stream().allMatch(Number.class::isInstance)) {
+            return ((List<?>) value).stream().mapToDouble(it -> ((Number) it).doubleValue()).toArray();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof VectorSimilarity && metric == ((VectorSimilarity) o).metric
+                && Arrays.equals(vector, ((VectorSimilarity) o).vector);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * metric.hashCode() + Arrays.hashCode(vector);
+    }
+
+    @Override
+    public String toString() {
+        return metric.getName() + Arrays.toString(vector);
+    }
+}
@@ -0,0 +1,31 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.client.AqlQuery;
+
+/**
+ * A step evaluated with an AQL query that only depends on the step itself, e.g. the step of
+ * {@code g.V().has("name", "marko")}. The query is rendered by the step, and thus by {@code traversal.explain()}, and
+ * can be explained by the server with {@link com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph#explainAql}.
+ */
+public interface AqlStep {
+
+    /**
+     * Compile the AQL query of the step, without executing it.
+     *
+     * @return the query, or {@code null} if the step does not query the database, e.g. when no element can match
+     */
+    AqlQuery getAqlQuery();
+
+    /**
+     * @return the AQL query of the step followed by its bind variables, to render the step, or {@code null} if there
+     * is no query or it cannot be compiled yet, e.g. because of invalid ids, which are reported when the step is run
+     */
+    default String getAqlString() {
+        try {
+            AqlQuery query = getAqlQuery();
+            return null == query ? null : "aql[" + query + "]";
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
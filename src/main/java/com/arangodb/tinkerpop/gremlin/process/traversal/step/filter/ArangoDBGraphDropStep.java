@@ -0,0 +1,128 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.filter;
+
+import com.arangodb.tinkerpop.gremlin.client.AqlQuery;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.DocumentQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.AqlStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DropStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Start step replacing {@link ArangoDBGraphStep} followed by {@link DropStep}, e.g. {@code g.V().has(...).drop()},
+ * that removes the matching elements on the server without fetching them, together with the edges of the removed
+ * vertices. Unfiltered drops truncate the collections.
+ */
+public final class ArangoDBGraphDropStep<S> extends AbstractStep<S, S> implements Profiling, AqlStep {
+
+    private final Class<? extends Element> returnClass;
+    private final Object[] ids;
+    private final List<HasContainer> hasContainers;
+    private boolean done;
+    private MutableMetrics metrics;
+
+    /**
+     * @param graphStep the graph step to replace, all its has containers must be supported AQL filters
+     */
+    public ArangoDBGraphDropStep(final ArangoDBGraphStep<?, ?> graphStep) {
+        super(graphStep.getTraversal());
+        this.returnClass = graphStep.getReturnClass();
+        this.ids = graphStep.getIds();
+        this.hasContainers = new ArrayList<>(graphStep.getHasContainers());
+    }
+
+    @Override
+    protected Traverser.Admin<S> processNextStart() {
+        if (!this.done) {
+            this.done = true;
+            drop();
+        }
+        throw FastNoSuchElementException.instance();
+    }
+
+    private void drop() {
+        if (null == this.ids) {
+            return;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            List<ElementId> elementIds = graph.getIdFactory().parseVertexIds(this.ids);
+            graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().dropGraphVertices(elementIds, query));
+        } else {
+            List<ElementId> elementIds = graph.getIdFactory().parseEdgeIds(this.ids);
+            graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().dropGraphEdges(elementIds, query));
+        }
+    }
+
+    /**
+     * @return the query removing the matching elements, or {@code null} if the collections are truncated instead
+     */
+    @Override
+    public AqlQuery getAqlQuery() {
+        if (null == this.ids || !this.getTraversal().getGraph().isPresent()) {
+            return null;
+        }
+        if (0 == this.ids.length && this.hasContainers.isEmpty()) {
+            return null;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            return graph.getClient().compileGraphVerticesQuery(graph.getIdFactory().parseVertexIds(this.ids), query,
+                    (collections, ids, q) -> ArangoDBQueryBuilder.removeDocuments(collections, ids, q, graph.edgeCollections()));
+        } else {
+            return graph.getClient().compileGraphEdgesQuery(graph.getIdFactory().parseEdgeIds(this.ids), query,
+                    (collections, ids, q) -> ArangoDBQueryBuilder.removeDocuments(collections, ids, q, Collections.emptySet()));
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.done = false;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.returnClass.getSimpleName().toLowerCase());
+        if (null != this.ids && 0 != this.ids.length)
+            arguments.add(Arrays.toString(this.ids));
+        arguments.add(this.hasContainers);
+        String aql = getAqlString();
+        if (null != aql)
+            arguments.add(aql);
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.returnClass.hashCode() ^ this.hasContainers.hashCode();
+        if (null != this.ids) {
+            result ^= Arrays.hashCode(this.ids);
+        }
+        return result;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
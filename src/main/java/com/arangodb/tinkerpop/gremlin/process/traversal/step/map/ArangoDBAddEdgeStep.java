@@ -0,0 +1,119 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+
+import java.util.*;
+
+/**
+ * {@link AddEdgeStep}, e.g. {@code g.inject(rows).unfold().addE("knows").from(select("a")).to(select("b"))}, that
+ * inserts the edges of a batch of incoming traversers with a single AQL query, with all their properties.
+ * <p>
+ * Up to {@link ArangoDBGraph#insertBatchSize()} incoming traversers are drained at a time, the parameters of the step
+ * are evaluated for each of them and the resulting edges are inserted, then emitted in the same order.
+ */
+public final class ArangoDBAddEdgeStep<S> extends AddEdgeStep<S> implements Profiling {
+
+    private static final String FROM = Graph.Hidden.hide("from");
+    private static final String TO = Graph.Hidden.hide("to");
+
+    private Iterator<Traverser.Admin<Edge>> iterator = Collections.emptyIterator();
+    private MutableMetrics metrics;
+
+    /**
+     * @param addEdgeStep the step to replace, its parameters are moved to the new step
+     */
+    public ArangoDBAddEdgeStep(final AddEdgeStep<S> addEdgeStep) {
+        super(addEdgeStep.getTraversal(), (String) null);
+        this.getParameters().remove(T.label);
+        addEdgeStep.getParameters().getRaw().forEach((key, values) ->
+                values.forEach(value -> this.getParameters().set(this, key, value)));
+    }
+
+    @Override
+    protected Traverser.Admin<Edge> processNextStart() {
+        while (!this.iterator.hasNext()) {
+            this.iterator = nextBatch();
+        }
+        return this.iterator.next();
+    }
+
+    /**
+     * Drain the next batch of incoming traversers and insert their edges.
+     *
+     * @return the outgoing traversers
+     * @throws NoSuchElementException if there are no more incoming traversers
+     */
+    private Iterator<Traverser.Admin<Edge>> nextBatch() {
+        final ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        final int batchSize = graph.insertBatchSize();
+        final List<Traverser.Admin<S>> batch = new ArrayList<>();
+        final List<ArangoDBEdge> edges = new ArrayList<>();
+        do {
+            final Traverser.Admin<S> traverser = this.starts.next();
+            batch.add(traverser);
+            final String label = (String) this.getParameters().get(traverser, T.label, () -> Edge.DEFAULT_LABEL).get(0);
+            final ArangoDBVertex from = vertex(graph, traverser, FROM, label);
+            final Vertex to = vertex(graph, traverser, TO, label);
+            edges.add(from.createEdge(label, to, this.getParameters().getKeyValues(traverser, TO, FROM, T.label)));
+        } while (batch.size() < batchSize && this.starts.hasNext());
+
+        graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.insertEdges(edges));
+        final List<Traverser.Admin<Edge>> traversers = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            traversers.add(batch.get(i).split(edges.get(i), this));
+        }
+        return traversers.iterator();
+    }
+
+    /**
+     * Resolve the vertex given to {@code from()} or {@code to()}, by default the incoming vertex.
+     */
+    private ArangoDBVertex vertex(final ArangoDBGraph graph, final Traverser.Admin<S> traverser, final String key, final String label) {
+        final String modulator = Graph.Hidden.unHide(key);
+        Object vertex;
+        try {
+            vertex = this.getParameters().get(traverser, key, traverser::get).get(0);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("addE(%s) failed because the %s() traversal (which should give a Vertex) failed with: %s",
+                    label, modulator, e.getMessage()));
+        }
+        if (vertex instanceof Attachable && !(vertex instanceof ArangoDBVertex)) {
+            vertex = ((Attachable<?>) vertex).attach(Attachable.Method.get(graph));
+        }
+        if (!(vertex instanceof ArangoDBVertex)) {
+            throw new IllegalStateException(String.format("The value given to addE(%s).%s() must resolve to a Vertex but %s was specified instead",
+                    label, modulator, null == vertex ? "null" : vertex.getClass().getSimpleName()));
+        }
+        return (ArangoDBVertex) vertex;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = Collections.emptyIterator();
+    }
+
+    @Override
+    public ArangoDBAddEdgeStep<S> clone() {
+        final ArangoDBAddEdgeStep<S> clone = (ArangoDBAddEdgeStep<S>) super.clone();
+        clone.iterator = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,87 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.*;
+
+/**
+ * {@link AddVertexStep}, e.g. {@code g.inject(rows).unfold().addV("item").property("a", select("a"))}, that inserts
+ * the vertices of a batch of incoming traversers with a single AQL query, with all their properties.
+ * <p>
+ * Up to {@link ArangoDBGraph#insertBatchSize()} incoming traversers are drained at a time, the parameters of the step
+ * are evaluated for each of them and the resulting vertices are inserted, then emitted in the same order.
+ */
+public final class ArangoDBAddVertexStep<S> extends AddVertexStep<S> implements Profiling {
+
+    private Iterator<Traverser.Admin<Vertex>> iterator = Collections.emptyIterator();
+    private MutableMetrics metrics;
+
+    /**
+     * @param addVertexStep the step to replace, its parameters are moved to the new step
+     */
+    public ArangoDBAddVertexStep(final AddVertexStep<S> addVertexStep) {
+        super(addVertexStep.getTraversal(), (String) null);
+        this.getParameters().remove(T.label);
+        addVertexStep.getParameters().getRaw().forEach((key, values) ->
+                values.forEach(value -> this.getParameters().set(this, key, value)));
+    }
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        while (!this.iterator.hasNext()) {
+            this.iterator = nextBatch();
+        }
+        return this.iterator.next();
+    }
+
+    /**
+     * Drain the next batch of incoming traversers and insert their vertices.
+     *
+     * @return the outgoing traversers
+     * @throws NoSuchElementException if there are no more incoming traversers
+     */
+    private Iterator<Traverser.Admin<Vertex>> nextBatch() {
+        final ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        final int batchSize = graph.insertBatchSize();
+        final List<Traverser.Admin<S>> batch = new ArrayList<>();
+        final List<ArangoDBVertex> vertices = new ArrayList<>();
+        do {
+            final Traverser.Admin<S> traverser = this.starts.next();
+            batch.add(traverser);
+            vertices.add(graph.createVertex(this.getParameters().getKeyValues(traverser)));
+        } while (batch.size() < batchSize && this.starts.hasNext());
+
+        graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.insertVertices(vertices));
+        final List<Traverser.Admin<Vertex>> traversers = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            traversers.add(batch.get(i).split(vertices.get(i), this));
+        }
+        return traversers.iterator();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = Collections.emptyIterator();
+    }
+
+    @Override
+    public ArangoDBAddVertexStep<S> clone() {
+        final ArangoDBAddVertexStep<S> clone = (ArangoDBAddVertexStep<S>) super.clone();
+        clone.iterator = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,179 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.*;
+
+/**
+ * {@link EdgeVertexStep} or {@link EdgeOtherVertexStep}, e.g. {@code inV()} or {@code otherV()}, that reads the
+ * vertices of a batch of incoming edges with a single AQL {@code DOCUMENT()} lookup.
+ * <p>
+ * Up to {@link ArangoDBGraph#traversalBatchSize()} incoming traversers are drained at a time and each distinct
+ * endpoint is read once, then emitted for every traverser of an edge ending at it, preserving its bulk and path.
+ */
+public final class ArangoDBEdgeVertexStep extends AbstractStep<Edge, Vertex> implements Profiling {
+
+    private final Direction direction;
+    private final boolean otherVertex;
+    private Iterator<Traverser.Admin<Vertex>> iterator = Collections.emptyIterator();
+    private MutableMetrics metrics;
+
+    /**
+     * @param traversal   the traversal of the step
+     * @param direction   the endpoints to read, ignored for the other vertex
+     * @param otherVertex whether to read the endpoint other than the previous vertex in the path, as {@code otherV()}
+     */
+    public ArangoDBEdgeVertexStep(final Traversal.Admin<?, ?> traversal, final Direction direction, final boolean otherVertex) {
+        super(traversal);
+        this.direction = direction;
+        this.otherVertex = otherVertex;
+    }
+
+    public Direction getDirection() {
+        return this.direction;
+    }
+
+    public boolean isOtherVertex() {
+        return this.otherVertex;
+    }
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        while (!this.iterator.hasNext()) {
+            this.iterator = nextBatch();
+        }
+        return this.iterator.next();
+    }
+
+    /**
+     * Drain the next batch of incoming traversers and read the endpoints of all their edges.
+     *
+     * @return the outgoing traversers
+     * @throws NoSuchElementException if there are no more incoming traversers
+     */
+    private Iterator<Traverser.Admin<Vertex>> nextBatch() {
+        final ArangoDBGraph graph = graph();
+        final int batchSize = graph.traversalBatchSize();
+        final List<Traverser.Admin<Edge>> batch = new ArrayList<>();
+        final List<List<ElementId>> endpoints = new ArrayList<>();
+        do {
+            final Traverser.Admin<Edge> traverser = this.starts.next();
+            batch.add(traverser);
+            endpoints.add(endpoints(graph, traverser));
+        } while (batch.size() < batchSize && this.starts.hasNext());
+
+        final Set<ElementId> vertexIds = new LinkedHashSet<>();
+        endpoints.forEach(vertexIds::addAll);
+        final Map<ElementId, Vertex> vertices = new HashMap<>();
+        final Iterable<VertexData> found = graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().getGraphVertices(new ArrayList<>(vertexIds)));
+        for (final VertexData data : found) {
+            vertices.put(data.elementId(), new ArangoDBVertex(graph, data));
+        }
+        final List<Traverser.Admin<Vertex>> traversers = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (final ElementId endpoint : endpoints.get(i)) {
+                final Vertex vertex = vertices.get(endpoint);
+                if (null != vertex) {
+                    traversers.add(batch.get(i).split(vertex, this));
+                }
+            }
+        }
+        return traversers.iterator();
+    }
+
+    /**
+     * @return the ids of the vertices to emit for the given traverser
+     */
+    private List<ElementId> endpoints(final ArangoDBGraph graph, final Traverser.Admin<Edge> traverser) {
+        final Edge edge = traverser.get();
+        final ElementId from = edge instanceof ArangoDBEdge ?
+                ((ArangoDBEdge) edge).data().getFrom() :
+                graph.getIdFactory().parseVertexId(edge.outVertex().id());
+        final ElementId to = edge instanceof ArangoDBEdge ?
+                ((ArangoDBEdge) edge).data().getTo() :
+                graph.getIdFactory().parseVertexId(edge.inVertex().id());
+        if (this.otherVertex) {
+            return Collections.singletonList(from.equals(previousVertexId(graph, traverser)) ? to : from);
+        }
+        switch (this.direction) {
+            case OUT:
+                return Collections.singletonList(from);
+            case IN:
+                return Collections.singletonList(to);
+            default:
+                return Arrays.asList(from, to);
+        }
+    }
+
+    /**
+     * @return the id of the last vertex preceding the edge in the path of the traverser
+     */
+    private static ElementId previousVertexId(final ArangoDBGraph graph, final Traverser.Admin<Edge> traverser) {
+        final List<Object> objects = traverser.path().objects();
+        for (int i = objects.size() - 2; i >= 0; i--) {
+            if (objects.get(i) instanceof Vertex) {
+                final Vertex vertex = (Vertex) objects.get(i);
+                return vertex instanceof ArangoDBVertex ?
+                        ((ArangoDBVertex) vertex).elementId() :
+                        graph.getIdFactory().parseVertexId(vertex.id());
+            }
+        }
+        throw new IllegalStateException("The path history of the traverser does not contain a previous vertex: " + traverser.path());
+    }
+
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) this.getTraversal().getGraph().get();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = Collections.emptyIterator();
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.otherVertex ?
+                new HashSet<>(Arrays.asList(TraverserRequirement.OBJECT, TraverserRequirement.PATH)) :
+                Collections.singleton(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public ArangoDBEdgeVertexStep clone() {
+        final ArangoDBEdgeVertexStep clone = (ArangoDBEdgeVertexStep) super.clone();
+        clone.iterator = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.otherVertex ? "other" : this.direction.name().toLowerCase());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.direction.hashCode() ^ Boolean.hashCode(this.otherVertex);
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
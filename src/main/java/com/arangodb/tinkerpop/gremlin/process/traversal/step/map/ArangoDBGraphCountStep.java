@@ -0,0 +1,123 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.AqlQuery;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.DocumentQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.AqlStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Start step replacing {@link ArangoDBGraphStep} followed by {@link CountGlobalStep}, e.g. {@code g.V().has(...).count()},
+ * that counts the matching elements on the server without fetching them.
+ */
+public final class ArangoDBGraphCountStep<S> extends AbstractStep<S, Long> implements Profiling, AqlStep {
+
+    private final Class<? extends Element> returnClass;
+    private final Object[] ids;
+    private final List<HasContainer> hasContainers;
+    private boolean done;
+    private MutableMetrics metrics;
+
+    /**
+     * @param graphStep the graph step to replace, all its has containers must be supported AQL filters
+     */
+    public ArangoDBGraphCountStep(final ArangoDBGraphStep<?, ?> graphStep) {
+        super(graphStep.getTraversal());
+        this.returnClass = graphStep.getReturnClass();
+        this.ids = graphStep.getIds();
+        this.hasContainers = new ArrayList<>(graphStep.getHasContainers());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Traverser.Admin<Long> processNextStart() {
+        if (this.done) {
+            throw FastNoSuchElementException.instance();
+        }
+        this.done = true;
+        // the step starts the traversal, so the generator takes it as the step emitting its own result
+        return this.getTraversal().getTraverserGenerator().generate(count(), (Step<Long, ?>) (Step<?, ?>) this, 1L);
+    }
+
+    private long count() {
+        if (null == this.ids) {
+            return 0L;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            List<ElementId> elementIds = graph.getIdFactory().parseVertexIds(this.ids);
+            return graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().countGraphVertices(elementIds, query));
+        } else {
+            List<ElementId> elementIds = graph.getIdFactory().parseEdgeIds(this.ids);
+            return graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().countGraphEdges(elementIds, query));
+        }
+    }
+
+    @Override
+    public AqlQuery getAqlQuery() {
+        if (null == this.ids || !this.getTraversal().getGraph().isPresent()) {
+            return null;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            return graph.getClient().compileGraphVerticesQuery(graph.getIdFactory().parseVertexIds(this.ids), query,
+                    ArangoDBQueryBuilder::countDocuments);
+        } else {
+            return graph.getClient().compileGraphEdgesQuery(graph.getIdFactory().parseEdgeIds(this.ids), query,
+                    ArangoDBQueryBuilder::countDocuments);
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.done = false;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.returnClass.getSimpleName().toLowerCase());
+        if (null != this.ids && 0 != this.ids.length)
+            arguments.add(Arrays.toString(this.ids));
+        arguments.add(this.hasContainers);
+        String aql = getAqlString();
+        if (null != aql)
+            arguments.add(aql);
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.returnClass.hashCode() ^ this.hasContainers.hashCode();
+        if (null != this.ids) {
+            result ^= Arrays.hashCode(this.ids);
+        }
+        return result;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,134 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.AqlQuery;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.DocumentQuery;
+import com.arangodb.tinkerpop.gremlin.client.GroupQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.AqlStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.*;
+
+/**
+ * Start step replacing {@link ArangoDBGraphStep} followed by {@link GroupCountStep} or {@link GroupStep}, e.g.
+ * {@code g.V().groupCount().by("country")}, that groups the matching elements on the server with AQL {@code COLLECT}
+ * and returns one entry for each group.
+ */
+public final class ArangoDBGraphGroupStep<S> extends AbstractStep<S, Map<Object, Object>> implements Profiling, AqlStep {
+
+    private final Class<? extends Element> returnClass;
+    private final Object[] ids;
+    private final List<HasContainer> hasContainers;
+    private final GroupQuery group;
+    private boolean done;
+    private MutableMetrics metrics;
+
+    /**
+     * @param graphStep the graph step to replace, all its has containers must be supported AQL filters
+     * @param group     the grouping of the elements
+     */
+    public ArangoDBGraphGroupStep(final ArangoDBGraphStep<?, ?> graphStep, final GroupQuery group) {
+        super(graphStep.getTraversal());
+        this.returnClass = graphStep.getReturnClass();
+        this.ids = graphStep.getIds();
+        this.hasContainers = new ArrayList<>(graphStep.getHasContainers());
+        this.group = group;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Traverser.Admin<Map<Object, Object>> processNextStart() {
+        if (this.done) {
+            throw FastNoSuchElementException.instance();
+        }
+        this.done = true;
+        // the step starts the traversal, so the generator takes it as the step emitting its own result
+        return this.getTraversal().getTraverserGenerator().generate(groups(), (Step<Map<Object, Object>, ?>) (Step<?, ?>) this, 1L);
+    }
+
+    private Map<Object, Object> groups() {
+        if (null == this.ids) {
+            return new HashMap<>();
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        Map<Object, Object> groups;
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            List<ElementId> elementIds = graph.getIdFactory().parseVertexIds(this.ids);
+            groups = graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().groupGraphVertices(elementIds, query, this.group));
+        } else {
+            List<ElementId> elementIds = graph.getIdFactory().parseEdgeIds(this.ids);
+            groups = graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().groupGraphEdges(elementIds, query, this.group));
+        }
+        if (this.group.getReducer() != GroupQuery.Reducer.FOLD) {
+            // Gremlin counts and sums integral numbers as longs
+            groups.replaceAll((k, v) -> v instanceof Integer || v instanceof Short || v instanceof Byte ? ((Number) v).longValue() : v);
+        }
+        return groups;
+    }
+
+    @Override
+    public AqlQuery getAqlQuery() {
+        if (null == this.ids || !this.getTraversal().getGraph().isPresent()) {
+            return null;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            return graph.getClient().compileGraphVerticesQuery(graph.getIdFactory().parseVertexIds(this.ids), query,
+                    (collections, ids, q) -> ArangoDBQueryBuilder.groupDocuments(collections, ids, q, this.group));
+        } else {
+            return graph.getClient().compileGraphEdgesQuery(graph.getIdFactory().parseEdgeIds(this.ids), query,
+                    (collections, ids, q) -> ArangoDBQueryBuilder.groupDocuments(collections, ids, q, this.group));
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.done = false;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.returnClass.getSimpleName().toLowerCase());
+        if (null != this.ids && 0 != this.ids.length)
+            arguments.add(Arrays.toString(this.ids));
+        arguments.add(this.hasContainers);
+        arguments.add(this.group);
+        String aql = getAqlString();
+        if (null != aql)
+            arguments.add(aql);
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.returnClass.hashCode() ^ this.hasContainers.hashCode() ^ this.group.hashCode();
+        if (null != this.ids) {
+            result ^= Arrays.hashCode(this.ids);
+        }
+        return result;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
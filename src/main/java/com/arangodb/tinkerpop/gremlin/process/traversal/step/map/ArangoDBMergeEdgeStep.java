@@ -0,0 +1,260 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.persistence.EdgeData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
+import org.apache.tinkerpop.gremlin.process.traversal.Merge;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ConstantTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeEdgeStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+
+/**
+ * {@link MergeEdgeStep}, e.g. {@code g.inject(rows).unfold().mergeE().option(Merge.onMatch, [seen: true])}, that
+ * merges the edges of a batch of incoming traversers with a single AQL {@code UPSERT}, instead of a lookup followed
+ * by separate requests to create or update each edge.
+ * <p>
+ * Up to {@link ArangoDBGraph#insertBatchSize()} incoming traversers are drained at a time. Supported are searches by
+ * properties or adjacent vertices, and by label when it determines the collection, with values AQL compares the same
+ * way Gremlin does, and constant {@code onMatch} maps. Since {@code UPSERT} updates at most one document, while all
+ * the matching edges are merged by Gremlin, the searched attributes must also be covered by a unique persistent index
+ * of the collection. The other merges are left to {@link MergeEdgeStep}, in the order of the incoming traversers.
+ */
+public final class ArangoDBMergeEdgeStep<S> extends MergeEdgeStep<S> implements Profiling {
+
+    private Iterator<Traverser.Admin<Edge>> iterator = Collections.emptyIterator();
+    private MutableMetrics metrics;
+
+    /**
+     * @param mergeEdgeStep the step to replace, its child traversals are moved to the new step
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArangoDBMergeEdgeStep(final MergeEdgeStep<S> mergeEdgeStep) {
+        super(mergeEdgeStep.getTraversal(), mergeEdgeStep.isStart(), mergeEdgeStep.getMergeTraversal());
+        if (null != mergeEdgeStep.getOnCreateTraversal())
+            this.addChildOption(Merge.onCreate, (Traversal.Admin) mergeEdgeStep.getOnCreateTraversal());
+        if (null != mergeEdgeStep.getOnMatchTraversal())
+            this.addChildOption(Merge.onMatch, (Traversal.Admin) mergeEdgeStep.getOnMatchTraversal());
+        if (null != mergeEdgeStep.getOutVTraversal())
+            this.addChildOption(Merge.outV, mergeEdgeStep.getOutVTraversal());
+        if (null != mergeEdgeStep.getInVTraversal())
+            this.addChildOption(Merge.inV, mergeEdgeStep.getInVTraversal());
+    }
+
+    @Override
+    protected Traverser.Admin<Edge> processNextStart() {
+        // start steps merge a single generated traverser, see flatMap()
+        if (this.isStart)
+            return super.processNextStart();
+        while (!this.iterator.hasNext()) {
+            this.iterator = nextBatch();
+        }
+        return this.iterator.next();
+    }
+
+    @Override
+    protected Iterator<Edge> flatMap(final Traverser.Admin<S> traverser) {
+        return merge(Collections.singletonList(traverser)).get(0).iterator();
+    }
+
+    /**
+     * Drain the next batch of incoming traversers and merge their edges.
+     *
+     * @return the outgoing traversers
+     * @throws NoSuchElementException if there are no more incoming traversers
+     */
+    private Iterator<Traverser.Admin<Edge>> nextBatch() {
+        final int batchSize = ((ArangoDBGraph) this.getGraph()).insertBatchSize();
+        final List<Traverser.Admin<S>> batch = new ArrayList<>();
+        do {
+            batch.add(this.starts.next());
+        } while (batch.size() < batchSize && this.starts.hasNext());
+
+        final List<List<Edge>> merged = merge(batch);
+        final List<Traverser.Admin<Edge>> traversers = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (final Edge edge : merged.get(i)) {
+                traversers.add(batch.get(i).split(edge, this));
+            }
+        }
+        return traversers.iterator();
+    }
+
+    /**
+     * Merge the edges of the traversers. Consecutive supported merges matching the same attributes are sent
+     * together, the others are merged by {@link MergeEdgeStep} in between.
+     *
+     * @return the merged edges of each traverser
+     */
+    private List<List<Edge>> merge(final List<Traverser.Admin<S>> batch) {
+        final ArangoDBGraph graph = (ArangoDBGraph) this.getGraph();
+        final List<List<Edge>> merged = new ArrayList<>();
+        final List<Integer> pending = new ArrayList<>();
+        final List<EdgeData> edges = new ArrayList<>();
+        final List<Map<String, Object>> updates = new ArrayList<>();
+        Set<Object> pendingSearch = null;
+        for (final Traverser.Admin<S> traverser : batch) {
+            final Map<?, ?> search = materializeMap(traverser, this.mergeTraversal);
+            validateMapInput(search, false);
+            final ArangoDBEdge edge = isSupported(graph, search) ? createEdge(traverser, search) : null;
+            final Map<String, Object> update = null != edge && isUniquelyIndexed(graph, edge, search) ? onMatchProperties() : null;
+            if (null != pendingSearch && (null == update || !pendingSearch.equals(search.keySet()))) {
+                flush(graph, pendingSearch, pending, edges, updates, merged);
+                pendingSearch = null;
+            }
+            if (null == update) {
+                merged.add(IteratorUtils.list(super.flatMap(traverser)));
+                continue;
+            }
+            pendingSearch = new HashSet<>(search.keySet());
+            pending.add(merged.size());
+            merged.add(null);
+            edges.add(edge.data());
+            updates.add(update);
+        }
+        if (null != pendingSearch)
+            flush(graph, pendingSearch, pending, edges, updates, merged);
+        return merged;
+    }
+
+    private void flush(final ArangoDBGraph graph, final Set<Object> search, final List<Integer> pending, final List<EdgeData> edges,
+                       final List<Map<String, Object>> updates, final List<List<Edge>> merged) {
+        final Set<Direction> directions = EnumSet.noneOf(Direction.class);
+        final Set<String> keys = new TreeSet<>();
+        for (final Object key : search) {
+            if (key instanceof Direction)
+                directions.add((Direction) key);
+            else if (key instanceof String)
+                keys.add((String) key);
+        }
+        final List<EdgeData> result = graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () ->
+                graph.getClient().mergeGraphEdges(edges, updates, search.contains(T.label), directions, keys));
+        for (int i = 0; i < pending.size(); i++) {
+            merged.set(pending.get(i), Collections.singletonList(new ArangoDBEdge(graph, result.get(i))));
+        }
+        pending.clear();
+        edges.clear();
+        updates.clear();
+    }
+
+    /**
+     * The search is supported if it has properties or adjacent vertices and no id, and if it determines the
+     * collection of the edge.
+     */
+    private static boolean isSupported(final ArangoDBGraph graph, final Map<?, ?> search) {
+        if (search.containsKey(T.id) || search.keySet().stream().noneMatch(it -> it instanceof String || it instanceof Direction)
+                || !search.containsKey(T.label) && graph.edgeCollections().size() != 1)
+            return false;
+        return search.entrySet().stream()
+                .filter(it -> !(it.getKey() instanceof Direction))
+                .allMatch(it -> ArangoDBQueryBuilder.isFilterSupported(
+                        new HasContainer(it.getKey() == T.label ? T.label.getAccessor() : (String) it.getKey(), P.eq(it.getValue()))));
+    }
+
+    /**
+     * Whether a unique persistent index covers exactly the searched properties, label and adjacent vertices, so that
+     * the search matches at most one edge of the collection.
+     */
+    private static boolean isUniquelyIndexed(final ArangoDBGraph graph, final ArangoDBEdge edge, final Map<?, ?> search) {
+        final Set<String> fields = new HashSet<>();
+        for (final Object key : search.keySet()) {
+            if (key == T.label)
+                fields.add("label");
+            else if (key == Direction.OUT)
+                fields.add("_from");
+            else if (key == Direction.IN)
+                fields.add("_to");
+            else
+                fields.add("properties." + key);
+        }
+        return graph.getClient().isUniquelyIndexed(edge.collection(), fields);
+    }
+
+    /**
+     * Create the edge to insert if not found, without inserting it. The adjacent vertices are matched by the ids of
+     * the resolved vertices the edge is created with.
+     *
+     * @return the edge, or {@code null} if it cannot be created
+     */
+    private ArangoDBEdge createEdge(final Traverser.Admin<S> traverser, final Map<?, ?> search) {
+        try {
+            final Map<?, ?> onCreate = onCreateMap(traverser, search, resolveVertices(new LinkedHashMap<>(search), traverser));
+            if (!onCreate.containsKey(Direction.OUT) || !onCreate.containsKey(Direction.IN))
+                return null;
+            final Vertex from = resolveVertex(onCreate.get(Direction.OUT));
+            final Vertex to = resolveVertex(onCreate.get(Direction.IN));
+            if (!(from instanceof ArangoDBVertex))
+                return null;
+            final String label = onCreate.containsKey(T.label) ? (String) onCreate.get(T.label) : Edge.DEFAULT_LABEL;
+            final List<Object> keyValues = new ArrayList<>();
+            for (final Map.Entry<?, ?> entry : onCreate.entrySet()) {
+                if (entry.getKey() instanceof Direction || entry.getKey() == T.label)
+                    continue;
+                keyValues.add(entry.getKey());
+                keyValues.add(entry.getValue());
+            }
+            return ((ArangoDBVertex) from).createEdge(label, to, keyValues.toArray());
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            // left to MergeEdgeStep, which reports it only if no edge is found
+            return null;
+        }
+    }
+
+    /**
+     * @return the properties to set on the edge found, or {@code null} if they depend on it or are not valid
+     */
+    private Map<String, Object> onMatchProperties() {
+        final Map<String, Object> properties = new LinkedHashMap<>();
+        if (null == this.onMatchTraversal)
+            return properties;
+        if (!(this.onMatchTraversal instanceof ConstantTraversal))
+            return null;
+        try {
+            final Map<?, ?> onMatch = this.onMatchTraversal.next();
+            validateMapInput(onMatch, true);
+            for (final Map.Entry<?, ?> entry : onMatch.entrySet()) {
+                ElementHelper.validateProperty((String) entry.getKey(), entry.getValue());
+                ArangoDBUtil.validatePropertyValue(entry.getValue());
+                properties.put((String) entry.getKey(), entry.getValue());
+            }
+        } catch (final IllegalArgumentException e) {
+            // left to MergeEdgeStep, which reports it only if an edge is found
+            return null;
+        }
+        return properties;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = Collections.emptyIterator();
+    }
+
+    @Override
+    public ArangoDBMergeEdgeStep<S> clone() {
+        final ArangoDBMergeEdgeStep<S> clone = (ArangoDBMergeEdgeStep<S>) super.clone();
+        clone.iterator = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
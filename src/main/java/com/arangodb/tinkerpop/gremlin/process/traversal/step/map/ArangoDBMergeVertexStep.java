@@ -0,0 +1,234 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexPropertyData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
+import org.apache.tinkerpop.gremlin.process.traversal.Merge;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.CardinalityValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ConstantTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+
+/**
+ * {@link MergeVertexStep}, e.g. {@code g.inject(rows).unfold().mergeV().option(Merge.onMatch, [seen: true])}, that
+ * merges the vertices of a batch of incoming traversers with a single AQL {@code UPSERT}, instead of a lookup followed
+ * by separate requests to create or update each vertex.
+ * <p>
+ * Up to {@link ArangoDBGraph#insertBatchSize()} incoming traversers are drained at a time. Supported are searches by
+ * properties, and by label when it determines the collection, with values AQL compares the same way Gremlin does,
+ * and constant {@code onMatch} maps. Since {@code UPSERT} updates at most one document, while all the matching
+ * vertices are merged by Gremlin, the searched properties and label must also be covered by a unique persistent
+ * index of the collection. The other merges are left to {@link MergeVertexStep}, in the order of the incoming
+ * traversers.
+ */
+public final class ArangoDBMergeVertexStep<S> extends MergeVertexStep<S> implements Profiling {
+
+    private Iterator<Traverser.Admin<Vertex>> iterator = Collections.emptyIterator();
+    private MutableMetrics metrics;
+
+    /**
+     * @param mergeVertexStep the step to replace, its child traversals are moved to the new step
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArangoDBMergeVertexStep(final MergeVertexStep<S> mergeVertexStep) {
+        super(mergeVertexStep.getTraversal(), mergeVertexStep.isStart(), mergeVertexStep.getMergeTraversal());
+        if (null != mergeVertexStep.getOnCreateTraversal())
+            this.addChildOption(Merge.onCreate, (Traversal.Admin) mergeVertexStep.getOnCreateTraversal());
+        if (null != mergeVertexStep.getOnMatchTraversal())
+            this.addChildOption(Merge.onMatch, (Traversal.Admin) mergeVertexStep.getOnMatchTraversal());
+    }
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        // start steps merge a single generated traverser, see flatMap()
+        if (this.isStart)
+            return super.processNextStart();
+        while (!this.iterator.hasNext()) {
+            this.iterator = nextBatch();
+        }
+        return this.iterator.next();
+    }
+
+    @Override
+    protected Iterator<Vertex> flatMap(final Traverser.Admin<S> traverser) {
+        return merge(Collections.singletonList(traverser)).get(0).iterator();
+    }
+
+    /**
+     * Drain the next batch of incoming traversers and merge their vertices.
+     *
+     * @return the outgoing traversers
+     * @throws NoSuchElementException if there are no more incoming traversers
+     */
+    private Iterator<Traverser.Admin<Vertex>> nextBatch() {
+        final int batchSize = ((ArangoDBGraph) this.getGraph()).insertBatchSize();
+        final List<Traverser.Admin<S>> batch = new ArrayList<>();
+        do {
+            batch.add(this.starts.next());
+        } while (batch.size() < batchSize && this.starts.hasNext());
+
+        final List<List<Vertex>> merged = merge(batch);
+        final List<Traverser.Admin<Vertex>> traversers = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            for (final Vertex vertex : merged.get(i)) {
+                traversers.add(batch.get(i).split(vertex, this));
+            }
+        }
+        return traversers.iterator();
+    }
+
+    /**
+     * Merge the vertices of the traversers. Consecutive supported merges matching the same properties are sent
+     * together, the others are merged by {@link MergeVertexStep} in between.
+     *
+     * @return the merged vertices of each traverser
+     */
+    private List<List<Vertex>> merge(final List<Traverser.Admin<S>> batch) {
+        final ArangoDBGraph graph = (ArangoDBGraph) this.getGraph();
+        final List<List<Vertex>> merged = new ArrayList<>();
+        final List<Integer> pending = new ArrayList<>();
+        final List<VertexData> vertices = new ArrayList<>();
+        final List<Map<String, VertexPropertyData>> updates = new ArrayList<>();
+        Set<Object> pendingSearch = null;
+        for (final Traverser.Admin<S> traverser : batch) {
+            final Map<?, ?> search = materializeMap(traverser, this.mergeTraversal);
+            validateMapInput(search, false);
+            final ArangoDBVertex vertex = isSupported(graph, search) ? createVertex(graph, traverser, search) : null;
+            final Map<String, VertexPropertyData> update = null != vertex && isUniquelyIndexed(graph, vertex, search) ? onMatchProperties() : null;
+            if (null != pendingSearch && (null == update || !pendingSearch.equals(search.keySet()))) {
+                flush(graph, pendingSearch, pending, vertices, updates, merged);
+                pendingSearch = null;
+            }
+            if (null == update) {
+                merged.add(IteratorUtils.list(super.flatMap(traverser)));
+                continue;
+            }
+            pendingSearch = new HashSet<>(search.keySet());
+            pending.add(merged.size());
+            merged.add(null);
+            vertices.add(vertex.data());
+            updates.add(update);
+        }
+        if (null != pendingSearch)
+            flush(graph, pendingSearch, pending, vertices, updates, merged);
+        return merged;
+    }
+
+    private void flush(final ArangoDBGraph graph, final Set<Object> search, final List<Integer> pending, final List<VertexData> vertices,
+                       final List<Map<String, VertexPropertyData>> updates, final List<List<Vertex>> merged) {
+        final Set<String> keys = new TreeSet<>();
+        search.stream().filter(String.class::isInstance).forEach(it -> keys.add((String) it));
+        final List<VertexData> result = graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () ->
+                graph.getClient().mergeGraphVertices(vertices, updates, search.contains(T.label), keys));
+        for (int i = 0; i < pending.size(); i++) {
+            merged.set(pending.get(i), Collections.singletonList(new ArangoDBVertex(graph, result.get(i))));
+        }
+        pending.clear();
+        vertices.clear();
+        updates.clear();
+    }
+
+    /**
+     * The search is supported if it has properties and no id, and if it determines the collection of the vertex.
+     */
+    private static boolean isSupported(final ArangoDBGraph graph, final Map<?, ?> search) {
+        if (search.containsKey(T.id) || search.keySet().stream().noneMatch(String.class::isInstance)
+                || !search.containsKey(T.label) && graph.vertexCollections().size() != 1)
+            return false;
+        return search.entrySet().stream().allMatch(it -> ArangoDBQueryBuilder.isFilterSupported(
+                new HasContainer(it.getKey() == T.label ? T.label.getAccessor() : (String) it.getKey(), P.eq(it.getValue()))));
+    }
+
+    /**
+     * Whether a unique persistent index covers exactly the searched properties and label, so that the search matches
+     * at most one vertex of the collection.
+     */
+    private static boolean isUniquelyIndexed(final ArangoDBGraph graph, final ArangoDBVertex vertex, final Map<?, ?> search) {
+        final Set<String> fields = new HashSet<>();
+        for (final Object key : search.keySet())
+            fields.add(key == T.label ? "label" : "properties." + key + ".value");
+        return graph.getClient().isUniquelyIndexed(vertex.collection(), fields);
+    }
+
+    /**
+     * Create the vertex to insert if not found, without inserting it.
+     *
+     * @return the vertex, or {@code null} if it cannot be created with single cardinality values
+     */
+    private ArangoDBVertex createVertex(final ArangoDBGraph graph, final Traverser.Admin<S> traverser, final Map<?, ?> search) {
+        final Map<?, ?> onCreate = onCreateMap(traverser, search);
+        final List<Object> keyValues = new ArrayList<>();
+        for (final Map.Entry<?, ?> entry : onCreate.entrySet()) {
+            if (entry.getValue() instanceof CardinalityValueTraversal)
+                return null;
+            keyValues.add(entry.getKey());
+            keyValues.add(entry.getValue());
+        }
+        try {
+            return graph.createVertex(keyValues.toArray());
+        } catch (final IllegalArgumentException e) {
+            // left to MergeVertexStep, which reports it only if no vertex is found
+            return null;
+        }
+    }
+
+    /**
+     * @return the properties to set on the vertex found, or {@code null} if they depend on it or are not valid
+     */
+    private Map<String, VertexPropertyData> onMatchProperties() {
+        final Map<String, VertexPropertyData> properties = new LinkedHashMap<>();
+        if (null == this.onMatchTraversal)
+            return properties;
+        if (!(this.onMatchTraversal instanceof ConstantTraversal))
+            return null;
+        try {
+            final Map<?, ?> onMatch = this.onMatchTraversal.next();
+            validateMapInput(onMatch, true);
+            for (final Map.Entry<?, ?> entry : onMatch.entrySet()) {
+                final Object value = entry.getValue();
+                if (value instanceof CardinalityValueTraversal)
+                    return null;
+                ElementHelper.validateProperty((String) entry.getKey(), value);
+                ArangoDBUtil.validatePropertyValue(value);
+                properties.put((String) entry.getKey(), new VertexPropertyData(value));
+            }
+        } catch (final IllegalArgumentException e) {
+            // left to MergeVertexStep, which reports it only if a vertex is found
+            return null;
+        }
+        return properties;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = Collections.emptyIterator();
+    }
+
+    @Override
+    public ArangoDBMergeVertexStep<S> clone() {
+        final ArangoDBMergeVertexStep<S> clone = (ArangoDBMergeVertexStep<S>) super.clone();
+        clone.iterator = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,145 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.RepeatQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+
+/**
+ * {@link RepeatStep} of a single adjacency hop, e.g. {@code repeat(out("knows")).emit().times(3)}, that is evaluated
+ * with a single variable-depth AQL traversal for each incoming vertex, instead of one query per vertex per iteration.
+ * <p>
+ * With {@code until()} filters, the traversal stops at the matching vertices or at the maximum depth, whichever comes
+ * first.
+ */
+public final class ArangoDBRepeatStep extends FlatMapStep<Vertex, Vertex> implements Profiling {
+
+    private final Direction direction;
+    private final String[] edgeLabels;
+    private final int minDepth;
+    private final int maxDepth;
+    private List<HasContainer> untilFilters = new ArrayList<>();
+    private boolean untilStart;
+    private boolean emit;
+    private MutableMetrics metrics;
+
+    /**
+     * @param traversal  the traversal of the step
+     * @param direction  the direction of the repeated hop
+     * @param edgeLabels the edge labels of the repeated hop
+     * @param minDepth   the minimum depth of the returned vertices
+     * @param maxDepth   the maximum depth of the returned vertices
+     */
+    public ArangoDBRepeatStep(final Traversal.Admin<?, ?> traversal, final Direction direction, final String[] edgeLabels,
+                              final int minDepth, final int maxDepth) {
+        super(traversal);
+        this.direction = direction;
+        this.edgeLabels = edgeLabels;
+        this.minDepth = minDepth;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Stop repeating at the vertices matching all the given filters, see {@link RepeatQuery#until(List, boolean)}.
+     *
+     * @param filters the filters to match
+     * @param start   whether the incoming vertex is tested as well
+     */
+    public void setUntil(final List<HasContainer> filters, final boolean start) {
+        this.untilFilters.addAll(filters);
+        this.untilStart = start;
+    }
+
+    /**
+     * Return all the vertices reached in the depth range, see {@link RepeatQuery#emit()}.
+     */
+    public void setEmit() {
+        this.emit = true;
+    }
+
+    public int getMinDepth() {
+        return this.minDepth;
+    }
+
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    @Override
+    protected Iterator<Vertex> flatMap(final Traverser.Admin<Vertex> traverser) {
+        final ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        final Set<String> edgeCollections = graph.getQueryEdgeCollections(this.edgeLabels);
+        final Vertex vertex = traverser.get();
+        if (edgeCollections.isEmpty()) {
+            // no edges to follow, only the incoming vertex can be returned
+            return this.minDepth == 0 && (this.emit || this.maxDepth == 0 || HasContainer.testAll(vertex, this.untilFilters)) ?
+                    IteratorUtils.of(vertex) : Collections.emptyIterator();
+        }
+        final RepeatQuery query = new RepeatQuery(this.direction, edgeCollections, this.edgeLabels)
+                .depth(this.minDepth, this.maxDepth);
+        if (!this.untilFilters.isEmpty()) {
+            query.until(this.untilFilters, this.untilStart);
+        }
+        if (this.emit) {
+            query.emit();
+        }
+        final ElementId vertexId = vertex instanceof ArangoDBVertex ?
+                ((ArangoDBVertex) vertex).elementId() :
+                graph.getIdFactory().parseVertexId(vertex.id());
+        return IteratorUtils.map(graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().getVertexRepeat(vertexId, query)),
+                it -> new ArangoDBVertex(graph, it));
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return Collections.singleton(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public ArangoDBRepeatStep clone() {
+        final ArangoDBRepeatStep clone = (ArangoDBRepeatStep) super.clone();
+        clone.untilFilters = new ArrayList<>(this.untilFilters);
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.direction.name().toLowerCase() + Arrays.toString(this.edgeLabels));
+        arguments.add(this.minDepth + ".." + this.maxDepth);
+        if (!this.untilFilters.isEmpty()) {
+            arguments.add((this.untilStart ? "until_first" : "until") + this.untilFilters);
+        }
+        if (this.emit) {
+            arguments.add("emit");
+        }
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.direction.hashCode() ^ Arrays.hashCode(this.edgeLabels) ^ this.minDepth
+                ^ this.maxDepth ^ this.untilFilters.hashCode() ^ Boolean.hashCode(this.untilStart)
+                ^ Boolean.hashCode(this.emit);
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
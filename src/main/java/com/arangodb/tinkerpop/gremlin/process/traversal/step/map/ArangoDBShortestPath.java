@@ -0,0 +1,37 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ShortestPath;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * Configuration options of {@code shortestPath()} specific to ArangoDB, to be passed with {@code with()} together
+ * with the ones of {@link ShortestPath}, e.g.
+ * {@code g.V(a).shortestPath().with(ShortestPath.target, __.hasId(b)).with(ArangoDBShortestPath.k, 3)}.
+ * <p>
+ * By default all the shortest paths to each target are returned, as Gremlin does.
+ * <p>
+ * Weighted distances, and edge labels in SIMPLE graphs, cannot be evaluated with AQL path searches: the paths are
+ * then enumerated on the server, at a cost exponential in their length, which must be bounded by {@link #maxDepth},
+ * or by {@link ShortestPath#maxDistance} for hop counts. Otherwise {@code shortestPath()} is left to TinkerPop, which
+ * requires a graph computer.
+ */
+public final class ArangoDBShortestPath {
+
+    /**
+     * Return the given number of shortest paths to each target, sorted by length.
+     */
+    public static final String k = Graph.Hidden.hide("arangodb.shortestPath.k");
+
+    /**
+     * Return a single shortest path to each target.
+     */
+    public static final String single = Graph.Hidden.hide("arangodb.shortestPath.single");
+
+    /**
+     * The maximum number of edges of the paths enumerated on the server when AQL path searches cannot be used.
+     */
+    public static final String maxDepth = Graph.Hidden.hide("arangodb.shortestPath.maxDepth");
+
+    private ArangoDBShortestPath() {
+    }
+}
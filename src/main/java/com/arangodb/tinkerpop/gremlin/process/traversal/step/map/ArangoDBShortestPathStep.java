@@ -0,0 +1,209 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.ShortestPathQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.PathData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ShortestPathVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+
+/**
+ * {@link ShortestPathVertexProgramStep} evaluated without a graph computer, with a single AQL path search for each
+ * incoming source vertex, see {@link com.arangodb.tinkerpop.gremlin.client.ArangoDBGraphClient#getShortestPaths}.
+ */
+public final class ArangoDBShortestPathStep extends FlatMapStep<Vertex, Path> implements Profiling {
+
+    private final Direction direction;
+    private final String[] edgeLabels;
+    private List<Object> targetIds;
+    private List<HasContainer> targetFilters = new ArrayList<>();
+    private ShortestPathQuery.Algorithm algorithm = ShortestPathQuery.Algorithm.ALL_SHORTEST_PATHS;
+    private int k = 1;
+    private String weightKey;
+    private Number maxDistance;
+    private Integer maxDepth;
+    private boolean includeEdges;
+    private MutableMetrics metrics;
+
+    /**
+     * @param traversal  the traversal of the step
+     * @param direction  the direction of the edges to follow
+     * @param edgeLabels the labels of the edges to follow
+     */
+    public ArangoDBShortestPathStep(final Traversal.Admin<?, ?> traversal, final Direction direction, final String[] edgeLabels) {
+        super(traversal);
+        this.direction = direction;
+        this.edgeLabels = edgeLabels;
+    }
+
+    /**
+     * Only search paths to the given target vertices.
+     *
+     * @param ids     the ids of the targets, or {@code null} to consider all the vertices
+     * @param filters the filters the targets must match
+     */
+    public void setTargets(final List<Object> ids, final List<HasContainer> filters) {
+        this.targetIds = ids;
+        this.targetFilters.addAll(filters);
+    }
+
+    /**
+     * @param algorithm the paths to return for each target
+     * @param k         the number of paths to return for each target, for
+     *                  {@link ShortestPathQuery.Algorithm#K_SHORTEST_PATHS}
+     */
+    public void setAlgorithm(final ShortestPathQuery.Algorithm algorithm, final int k) {
+        this.algorithm = algorithm;
+        this.k = k;
+    }
+
+    public ShortestPathQuery.Algorithm getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Measure the length of paths as the sum of the given edge property.
+     *
+     * @param key the edge property key
+     */
+    public void setWeight(final String key) {
+        this.weightKey = key;
+    }
+
+    public void setMaxDistance(final Number maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Bound the number of edges of the paths enumerated on the server, see {@link ArangoDBShortestPath#maxDepth}.
+     *
+     * @param maxDepth the maximum number of edges, or {@code null}
+     */
+    public void setMaxDepth(final Integer maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public void setIncludeEdges(final boolean includeEdges) {
+        this.includeEdges = includeEdges;
+    }
+
+    @Override
+    protected Iterator<Path> flatMap(final Traverser.Admin<Vertex> traverser) {
+        final ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        final Vertex source = traverser.get();
+        if (null != this.targetIds && this.targetIds.isEmpty()) {
+            return Collections.emptyIterator();
+        }
+        final Set<String> edgeCollections = graph.getQueryEdgeCollections(this.edgeLabels);
+        if (edgeCollections.isEmpty()) {
+            // no edges to follow, only the source vertex can be reached
+            final boolean target = (null == this.targetIds || this.targetIds.stream().anyMatch(it -> graph.getIdFactory().parseVertexId(it).equals(vertexId(graph, source))))
+                    && HasContainer.testAll(source, this.targetFilters);
+            return target ? IteratorUtils.of(MutablePath.make().extend(source, Collections.emptySet())) : Collections.emptyIterator();
+        }
+        final ShortestPathQuery query = new ShortestPathQuery(this.direction, edgeCollections, this.edgeLabels)
+                .targets(this.targetFilters)
+                .algorithm(this.algorithm, this.k);
+        if (null != this.weightKey) {
+            query.weight(this.weightKey);
+        }
+        if (null != this.maxDistance) {
+            query.maxDistance(this.maxDistance);
+        }
+        if (null != this.maxDepth) {
+            query.maxDepth(this.maxDepth);
+        }
+        if (this.includeEdges) {
+            query.includeEdges();
+        }
+        final List<ElementId> ids = null == this.targetIds ?
+                Collections.emptyList() :
+                graph.getIdFactory().parseVertexIds(this.targetIds.toArray());
+        return IteratorUtils.map(graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().getShortestPaths(vertexId(graph, source), ids, query)),
+                it -> path(graph, it));
+    }
+
+    private static ElementId vertexId(final ArangoDBGraph graph, final Vertex vertex) {
+        return vertex instanceof ArangoDBVertex ?
+                ((ArangoDBVertex) vertex).elementId() :
+                graph.getIdFactory().parseVertexId(vertex.id());
+    }
+
+    private static Path path(final ArangoDBGraph graph, final PathData data) {
+        final Path path = MutablePath.make();
+        for (int i = 0; i < data.getVertices().size(); i++) {
+            path.extend(new ArangoDBVertex(graph, data.getVertices().get(i)), Collections.emptySet());
+            if (i < data.getEdges().size()) {
+                path.extend(new ArangoDBEdge(graph, data.getEdges().get(i)), Collections.emptySet());
+            }
+        }
+        return path;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return Collections.singleton(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public ArangoDBShortestPathStep clone() {
+        final ArangoDBShortestPathStep clone = (ArangoDBShortestPathStep) super.clone();
+        clone.targetFilters = new ArrayList<>(this.targetFilters);
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.direction.name().toLowerCase() + Arrays.toString(this.edgeLabels));
+        if (null != this.targetIds) {
+            arguments.add("targets" + this.targetIds);
+        }
+        if (!this.targetFilters.isEmpty()) {
+            arguments.add(this.targetFilters);
+        }
+        arguments.add(this.algorithm == ShortestPathQuery.Algorithm.K_SHORTEST_PATHS ? this.algorithm + "(" + this.k + ")" : this.algorithm);
+        if (null != this.weightKey) {
+            arguments.add("weight(" + this.weightKey + ")");
+        }
+        if (null != this.maxDistance) {
+            arguments.add("maxDistance(" + this.maxDistance + ")");
+        }
+        if (null != this.maxDepth) {
+            arguments.add("maxDepth(" + this.maxDepth + ")");
+        }
+        if (this.includeEdges) {
+            arguments.add("includeEdges");
+        }
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.direction.hashCode() ^ Arrays.hashCode(this.edgeLabels) ^ Objects.hashCode(this.targetIds)
+                ^ this.targetFilters.hashCode() ^ this.algorithm.hashCode() ^ this.k ^ Objects.hashCode(this.weightKey)
+                ^ Objects.hashCode(this.maxDistance) ^ Objects.hashCode(this.maxDepth) ^ Boolean.hashCode(this.includeEdges);
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
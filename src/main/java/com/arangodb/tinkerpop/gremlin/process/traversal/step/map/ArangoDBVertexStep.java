@@ -0,0 +1,311 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.map;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBGraphClient;
+import com.arangodb.tinkerpop.gremlin.client.TraversalQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.NeighborData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Fused sequence of {@link VertexStep}s, e.g. {@code out().in().outE("knows")}, that is evaluated with a single AQL
+ * traversal for each batch of incoming vertices. All the hops but the last one return vertices. The edges of each hop
+ * can be filtered, e.g. for {@code outE().has("weight", gt(0.5)).inV()}.
+ * <p>
+ * Up to {@link ArangoDBGraph#traversalBatchSize()} incoming traversers are drained at a time: the reached elements
+ * are returned together with the vertex they were reached from, and each of them is emitted for every traverser of
+ * that vertex, preserving its bulk and path. With {@link ArangoDBGraph#traversalConcurrency()} greater than one, several
+ * batches are drained at a time and their queries are kept in flight together.
+ * <p>
+ * The number of elements read for each incoming vertex can be limited, e.g. when followed by {@code limit()}.
+ * When followed by {@code count()}, the step can be set to only count the reached elements on the server: each
+ * incoming traverser is then emitted with its bulk multiplied by such count.
+ */
+public final class ArangoDBVertexStep<E extends Element> extends AbstractStep<Vertex, E> implements Profiling {
+
+    private final Class<E> returnClass;
+    private List<Direction> directions = new ArrayList<>();
+    private List<String[]> edgeLabels = new ArrayList<>();
+    private List<List<HasContainer>> edgeFilters = new ArrayList<>();
+    private long limit = -1;
+    private Set<String> projection;
+    private boolean countOnly;
+    private Iterator<Traverser.Admin<E>> iterator = Collections.emptyIterator();
+    private MutableMetrics metrics;
+
+    public ArangoDBVertexStep(final Traversal.Admin<?, ?> traversal, final Class<E> returnClass) {
+        super(traversal);
+        this.returnClass = returnClass;
+    }
+
+    /**
+     * Append the hop of the given step.
+     *
+     * @param vertexStep the step to append
+     */
+    public void addHop(final VertexStep<?> vertexStep) {
+        addHop(vertexStep, Collections.emptyList());
+    }
+
+    /**
+     * Append the hop of the given step, only following the edges matching the given filters, e.g. for
+     * {@code outE().has("weight", gt(0.5)).inV()}.
+     *
+     * @param vertexStep  the step to append
+     * @param edgeFilters the filters the edges must match
+     */
+    public void addHop(final VertexStep<?> vertexStep, final List<HasContainer> edgeFilters) {
+        this.directions.add(vertexStep.getDirection());
+        this.edgeLabels.add(vertexStep.getEdgeLabels());
+        this.edgeFilters.add(new ArrayList<>(edgeFilters));
+    }
+
+    public List<Direction> getDirections() {
+        return Collections.unmodifiableList(this.directions);
+    }
+
+    public Class<E> getReturnClass() {
+        return this.returnClass;
+    }
+
+    public boolean returnsVertex() {
+        return Vertex.class.isAssignableFrom(this.returnClass);
+    }
+
+    /**
+     * Limit the number of elements read for each incoming vertex.
+     *
+     * @param limit the maximum number of elements, {@code -1} for no limit
+     */
+    public void setLimit(final long limit) {
+        this.limit = limit;
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Only read the given properties of the reached elements, to be used when they are only consumed by the next step.
+     *
+     * @param keys the property keys to read
+     */
+    public void setProjection(final Set<String> keys) {
+        this.projection = keys;
+    }
+
+    /**
+     * Only count the reached elements, to be used when the step is followed by {@code count()}.
+     */
+    public void setCountOnly() {
+        this.countOnly = true;
+    }
+
+    public boolean isCountOnly() {
+        return this.countOnly;
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() {
+        while (!this.iterator.hasNext()) {
+            this.iterator = nextBatch();
+        }
+        return this.iterator.next();
+    }
+
+    /**
+     * Drain the next batches of incoming traversers and evaluate the step for all of them. Up to
+     * {@link ArangoDBGraph#traversalConcurrency()} batches are drained at a time, whose queries are then run
+     * concurrently, and emitted in order.
+     *
+     * @return the outgoing traversers
+     * @throws NoSuchElementException if there are no more incoming traversers
+     */
+    private Iterator<Traverser.Admin<E>> nextBatch() {
+        final ArangoDBGraph graph = graph();
+        final int batchSize = graph.traversalBatchSize();
+        final int concurrency = graph.traversalConcurrency();
+        final TraversalQuery query = query();
+        final List<Supplier<Iterator<Traverser.Admin<E>>>> results = new ArrayList<>();
+        do {
+            final Map<ElementId, List<Traverser.Admin<Vertex>>> batch = new LinkedHashMap<>();
+            int size = 0;
+            do {
+                final Traverser.Admin<Vertex> traverser = this.starts.next();
+                batch.computeIfAbsent(vertexId(traverser.get()), it -> new ArrayList<>()).add(traverser);
+            } while (++size < batchSize && this.starts.hasNext());
+            if (null != query) {
+                results.add(concurrency > 1 ? evaluateAsync(graph, query, batch) : evaluate(graph, query, batch));
+            }
+        } while (results.size() < concurrency && this.starts.hasNext());
+        return IteratorUtils.flatMap(results.iterator(), Supplier::get);
+    }
+
+    private Supplier<Iterator<Traverser.Admin<E>>> evaluate(final ArangoDBGraph graph, final TraversalQuery query,
+                                                            final Map<ElementId, List<Traverser.Admin<Vertex>>> batch) {
+        final List<ElementId> vertexIds = new ArrayList<>(batch.keySet());
+        final ArangoDBGraphClient client = graph.getClient();
+        if (this.countOnly) {
+            final Map<String, Long> counts = client.profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> client.countVertexNeighbors(vertexIds, query));
+            return () -> counted(batch, counts);
+        }
+        final Iterator<NeighborData> neighbors = client.profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> returnsVertex() ?
+                client.getVertexNeighbors(vertexIds, query) :
+                client.getVertexEdges(vertexIds, query));
+        return () -> reached(graph, batch, neighbors);
+    }
+
+    /**
+     * Start the query of the batch without blocking.
+     *
+     * @return the supplier of the outgoing traversers, waiting for the results of the query
+     */
+    private Supplier<Iterator<Traverser.Admin<E>>> evaluateAsync(final ArangoDBGraph graph, final TraversalQuery query,
+                                                                 final Map<ElementId, List<Traverser.Admin<Vertex>>> batch) {
+        final List<ElementId> vertexIds = new ArrayList<>(batch.keySet());
+        final ArangoDBGraphClient client = graph.getClient();
+        if (this.countOnly) {
+            final CompletableFuture<Map<String, Long>> counts = client.profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> client.countVertexNeighborsAsync(vertexIds, query));
+            return () -> counted(batch, ArangoDBGraphClient.join(counts));
+        }
+        final CompletableFuture<List<NeighborData>> neighbors = client.profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> returnsVertex() ?
+                client.getVertexNeighborsAsync(vertexIds, query) :
+                client.getVertexEdgesAsync(vertexIds, query));
+        return () -> reached(graph, batch, ArangoDBGraphClient.join(neighbors).iterator());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Iterator<Traverser.Admin<E>> counted(final Map<ElementId, List<Traverser.Admin<Vertex>>> batch,
+                                                 final Map<String, Long> counts) {
+        final List<Traverser.Admin<E>> traversers = new ArrayList<>();
+        batch.forEach((vertexId, it) -> {
+            final Long count = counts.get(vertexId.toJson());
+            if (null != count) {
+                for (final Traverser.Admin<Vertex> traverser : it) {
+                    traverser.setBulk(traverser.bulk() * count);
+                    traversers.add((Traverser.Admin) traverser);
+                }
+            }
+        });
+        return traversers.iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterator<Traverser.Admin<E>> reached(final ArangoDBGraph graph,
+                                                 final Map<ElementId, List<Traverser.Admin<Vertex>>> batch,
+                                                 final Iterator<NeighborData> neighbors) {
+        return IteratorUtils.flatMap(neighbors, it -> {
+            final E element = returnsVertex() ?
+                    (E) new ArangoDBVertex(graph, it.getVertex()) :
+                    (E) new ArangoDBEdge(graph, it.getEdge());
+            return IteratorUtils.map(batch.get(it.getStart()).iterator(), traverser -> traverser.split(element, this));
+        });
+    }
+
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) this.getTraversal().getGraph().get();
+    }
+
+    /**
+     * @return the query to evaluate, or {@code null} if some hop cannot match any edge collection
+     */
+    private TraversalQuery query() {
+        final ArangoDBGraph graph = graph();
+        final TraversalQuery query = new TraversalQuery();
+        for (int i = 0; i < this.directions.size(); i++) {
+            Set<String> edgeCollections = graph.getQueryEdgeCollections(this.edgeLabels.get(i));
+            if (edgeCollections.isEmpty()) {
+                return null;
+            }
+            query.hop(this.directions.get(i), edgeCollections, this.edgeFilters.get(i), this.edgeLabels.get(i));
+        }
+        if (this.limit >= 0) {
+            query.limit(this.limit);
+        }
+        if (null != this.projection) {
+            query.projection(this.projection);
+        }
+        return query;
+    }
+
+    private ElementId vertexId(final Vertex vertex) {
+        return vertex instanceof ArangoDBVertex ?
+                ((ArangoDBVertex) vertex).elementId() :
+                graph().getIdFactory().parseVertexId(vertex.id());
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = Collections.emptyIterator();
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return Collections.singleton(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ArangoDBVertexStep<E> clone() {
+        final ArangoDBVertexStep<E> clone = (ArangoDBVertexStep<E>) super.clone();
+        clone.iterator = Collections.emptyIterator();
+        clone.directions = new ArrayList<>(this.directions);
+        clone.edgeLabels = new ArrayList<>(this.edgeLabels);
+        clone.edgeFilters = new ArrayList<>(this.edgeFilters);
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        for (int i = 0; i < this.directions.size(); i++) {
+            arguments.add(this.directions.get(i).name().toLowerCase() + Arrays.toString(this.edgeLabels.get(i))
+                    + (this.edgeFilters.get(i).isEmpty() ? "" : this.edgeFilters.get(i).toString()));
+        }
+        arguments.add(this.returnClass.getSimpleName().toLowerCase());
+        if (this.limit >= 0) {
+            arguments.add("limit(" + this.limit + ")");
+        }
+        if (null != this.projection) {
+            arguments.add("projection" + this.projection);
+        }
+        if (this.countOnly) {
+            arguments.add("count");
+        }
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.returnClass.hashCode() ^ Long.hashCode(this.limit) ^ Objects.hashCode(this.projection) ^ Boolean.hashCode(this.countOnly);
+        for (int i = 0; i < this.directions.size(); i++) {
+            result ^= (this.directions.get(i).hashCode() ^ Arrays.hashCode(this.edgeLabels.get(i)) ^ this.edgeFilters.get(i).hashCode()) * (i + 1);
+        }
+        return result;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
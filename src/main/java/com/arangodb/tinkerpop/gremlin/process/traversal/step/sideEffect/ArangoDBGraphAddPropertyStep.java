@@ -0,0 +1,181 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect;
+
+import com.arangodb.tinkerpop.gremlin.client.AqlQuery;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.DocumentQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.AqlStep;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexPropertyData;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.AddPropertyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+
+/**
+ * Start step replacing {@link ArangoDBGraphStep} followed by {@link AddPropertyStep}s, e.g.
+ * {@code g.V().has(...).property("status", "inactive")}, that sets the properties of all the matching elements with a
+ * single AQL {@code UPDATE} instead of reading and replacing each element. The updated elements are emitted, unless
+ * the traversal is only iterated for its side effects.
+ */
+public final class ArangoDBGraphAddPropertyStep<S, E extends Element> extends AbstractStep<S, E> implements Profiling, AqlStep {
+
+    private final Class<E> returnClass;
+    private final Object[] ids;
+    private final List<HasContainer> hasContainers;
+    private Map<String, Object> properties = new LinkedHashMap<>();
+    private Map<String, Map<String, Object>> metaProperties = new HashMap<>();
+    private boolean returnElements = true;
+    private Iterator<E> iterator;
+    private MutableMetrics metrics;
+
+    /**
+     * @param graphStep the graph step to replace, all its has containers must be supported AQL filters
+     */
+    public ArangoDBGraphAddPropertyStep(final ArangoDBGraphStep<?, E> graphStep) {
+        super(graphStep.getTraversal());
+        this.returnClass = graphStep.getReturnClass();
+        this.ids = graphStep.getIds();
+        this.hasContainers = new ArrayList<>(graphStep.getHasContainers());
+    }
+
+    /**
+     * Add a property to set, replacing any property with the same key added before.
+     *
+     * @param key            the property key
+     * @param value          the property value
+     * @param metaProperties the properties of the vertex property, empty for edges
+     */
+    public void addProperty(final String key, final Object value, final Map<String, Object> metaProperties) {
+        this.properties.put(key, value);
+        this.metaProperties.put(key, new LinkedHashMap<>(metaProperties));
+    }
+
+    public Map<String, Object> getProperties() {
+        return Collections.unmodifiableMap(this.properties);
+    }
+
+    /**
+     * @param returnElements whether to emit the updated elements, otherwise nothing is emitted
+     */
+    public void setReturnElements(final boolean returnElements) {
+        this.returnElements = returnElements;
+    }
+
+    public boolean isReturnElements() {
+        return this.returnElements;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Traverser.Admin<E> processNextStart() {
+        if (null == this.iterator) {
+            this.iterator = update();
+        }
+        if (!this.iterator.hasNext()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return this.getTraversal().getTraverserGenerator().generate(this.iterator.next(), (AbstractStep) this, 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterator<E> update() {
+        if (null == this.ids) {
+            return Collections.emptyIterator();
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            Map<String, VertexPropertyData> data = vertexProperties();
+            List<ElementId> elementIds = graph.getIdFactory().parseVertexIds(this.ids);
+            return (Iterator<E>) IteratorUtils.map(graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().updateGraphVertices(elementIds, query, data, this.returnElements)),
+                    it -> new ArangoDBVertex(graph, it));
+        } else {
+            List<ElementId> elementIds = graph.getIdFactory().parseEdgeIds(this.ids);
+            return (Iterator<E>) IteratorUtils.map(graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().updateGraphEdges(elementIds, query, this.properties, this.returnElements)),
+                    it -> new ArangoDBEdge(graph, it));
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = null;
+    }
+
+    @Override
+    public ArangoDBGraphAddPropertyStep<S, E> clone() {
+        final ArangoDBGraphAddPropertyStep<S, E> clone = (ArangoDBGraphAddPropertyStep<S, E>) super.clone();
+        clone.properties = new LinkedHashMap<>(this.properties);
+        clone.metaProperties = new HashMap<>(this.metaProperties);
+        clone.iterator = null;
+        return clone;
+    }
+
+    private Map<String, VertexPropertyData> vertexProperties() {
+        Map<String, VertexPropertyData> data = new LinkedHashMap<>();
+        this.properties.forEach((key, value) -> {
+            VertexPropertyData property = new VertexPropertyData(value);
+            this.metaProperties.get(key).forEach(property::put);
+            data.put(key, property);
+        });
+        return data;
+    }
+
+    @Override
+    public AqlQuery getAqlQuery() {
+        if (null == this.ids || !this.getTraversal().getGraph().isPresent()) {
+            return null;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) this.getTraversal().getGraph().get();
+        DocumentQuery query = new DocumentQuery(this.returnClass).filters(this.hasContainers);
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            Map<String, VertexPropertyData> data = vertexProperties();
+            return graph.getClient().compileGraphVerticesQuery(graph.getIdFactory().parseVertexIds(this.ids), query,
+                    (collections, ids, q) -> ArangoDBQueryBuilder.updateDocuments(collections, ids, q, data, this.returnElements));
+        } else {
+            return graph.getClient().compileGraphEdgesQuery(graph.getIdFactory().parseEdgeIds(this.ids), query,
+                    (collections, ids, q) -> ArangoDBQueryBuilder.updateDocuments(collections, ids, q, this.properties, this.returnElements));
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.returnClass.getSimpleName().toLowerCase());
+        if (null != this.ids && 0 != this.ids.length)
+            arguments.add(Arrays.toString(this.ids));
+        arguments.add(this.hasContainers);
+        arguments.add(this.properties);
+        String aql = getAqlString();
+        if (null != aql)
+            arguments.add(aql);
+        return StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.returnClass.hashCode() ^ this.hasContainers.hashCode() ^ this.properties.hashCode();
+        if (null != this.ids) {
+            result ^= Arrays.hashCode(this.ids);
+        }
+        return result;
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,233 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect;
+
+import com.arangodb.tinkerpop.gremlin.client.AqlQuery;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.DocumentQuery;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.AqlStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * {@link GraphStep} that evaluates the folded {@link HasContainer}s as AQL filters whenever possible. The remaining
+ * ones are evaluated on the client. A folded {@code order()} and {@code range()} are evaluated in AQL as well,
+ * which requires all the has containers to be AQL filters.
+ */
+public final class ArangoDBGraphStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder, Profiling, AqlStep {
+
+    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private final List<DocumentQuery.SortKey> sortKeys = new ArrayList<>();
+    private long low = 0;
+    private long high = -1;
+    private boolean tail;
+    private Set<String> projection;
+    private MutableMetrics metrics;
+
+    @SuppressWarnings("unchecked")
+    public ArangoDBGraphStep(final GraphStep<S, E> originalGraphStep) {
+        super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
+        originalGraphStep.getLabels().forEach(this::addLabel);
+        this.setIteratorSupplier(() -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+    }
+
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) this.getTraversal().getGraph().get();
+    }
+
+    private Iterator<? extends Vertex> vertices() {
+        if (null == this.ids) {
+            return Collections.emptyIterator();
+        }
+        ArangoDBGraph graph = graph();
+        List<ElementId> elementIds = graph.getIdFactory().parseVertexIds(this.ids);
+        DocumentQuery query = documentQuery(Vertex.class);
+        return filter(IteratorUtils.map(graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().getGraphVertices(elementIds, query)),
+                it -> new ArangoDBVertex(graph, it)));
+    }
+
+    private Iterator<? extends Edge> edges() {
+        if (null == this.ids) {
+            return Collections.emptyIterator();
+        }
+        ArangoDBGraph graph = graph();
+        List<ElementId> elementIds = graph.getIdFactory().parseEdgeIds(this.ids);
+        DocumentQuery query = documentQuery(Edge.class);
+        return filter(IteratorUtils.map(graph.getClient().profiled(this.metrics, ArangoDBCursorOptions.of(this.getTraversal()), () -> graph.getClient().getGraphEdges(elementIds, query)),
+                it -> new ArangoDBEdge(graph, it)));
+    }
+
+    @Override
+    public AqlQuery getAqlQuery() {
+        if (null == this.ids || !this.getTraversal().getGraph().isPresent()) {
+            return null;
+        }
+        ArangoDBGraph graph = graph();
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            return graph.getClient().compileGraphVerticesQuery(graph.getIdFactory().parseVertexIds(this.ids),
+                    documentQuery(Vertex.class), ArangoDBQueryBuilder::readDocuments);
+        } else {
+            return graph.getClient().compileGraphEdgesQuery(graph.getIdFactory().parseEdgeIds(this.ids),
+                    documentQuery(Edge.class), ArangoDBQueryBuilder::readDocuments);
+        }
+    }
+
+    private DocumentQuery documentQuery(Class<? extends Element> elementClass) {
+        DocumentQuery query = new DocumentQuery(elementClass).filters(getPushableHasContainers());
+        sortKeys.forEach(it -> {
+            if (null != it.getOrder())
+                query.sort(it.getKey(), it.getOrder());
+            else
+                query.sort(it.getKey(), it.isAscending());
+        });
+        if (hasRange()) {
+            query.range(low, high);
+        }
+        if (tail) {
+            query.reverse();
+        }
+        if (null != projection) {
+            query.projection(projection);
+        }
+        return query;
+    }
+
+    private <T extends Element> Iterator<T> filter(Iterator<T> iterator) {
+        List<HasContainer> residual = hasContainers.stream()
+                .filter(it -> !ArangoDBQueryBuilder.isFilterSupported(it))
+                .collect(Collectors.toList());
+        return residual.isEmpty() ? iterator : IteratorUtils.filter(iterator, it -> HasContainer.testAll(it, residual));
+    }
+
+    private List<HasContainer> getPushableHasContainers() {
+        return hasContainers.stream()
+                .filter(ArangoDBQueryBuilder::isFilterSupported)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sort the elements by the given key, after the previous sort keys, see
+     * {@link DocumentQuery#sort(String, boolean)}.
+     *
+     * @param key       the property key
+     * @param ascending whether the order is ascending
+     */
+    public void addSortKey(final String key, final boolean ascending) {
+        this.sortKeys.add(new DocumentQuery.SortKey(key, ascending));
+    }
+
+    /**
+     * Sort the elements by the given property with a comparator evaluated in AQL, after the previous sort keys, see
+     * {@link DocumentQuery#sort(String, Comparator)}.
+     *
+     * @param key   the property key
+     * @param order the comparator
+     */
+    public void addSortKey(final String key, final Comparator<Object> order) {
+        this.sortKeys.add(new DocumentQuery.SortKey(key, order));
+    }
+
+    public boolean isSorted() {
+        return !this.sortKeys.isEmpty();
+    }
+
+    /**
+     * Only return the elements in the given range, see {@link org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep}.
+     *
+     * @param low  the number of elements to skip
+     * @param high the end of the range, exclusive, {@code -1} for no upper bound
+     */
+    public void setRange(final long low, final long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Only return the last elements of the sort, see {@link org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailGlobalStep},
+     * which are read first by reversing the sort, see {@link DocumentQuery#reverse()}. The sort keys must not have
+     * comparators.
+     *
+     * @param limit the number of elements
+     */
+    public void setTail(final long limit) {
+        this.low = 0;
+        this.high = limit;
+        this.tail = true;
+    }
+
+    public boolean hasRange() {
+        return this.low > 0 || this.high >= 0;
+    }
+
+    /**
+     * Only read the given properties of the elements, to be used when the elements are only consumed by the next step.
+     *
+     * @param keys the property keys to read
+     */
+    public void setProjection(final Set<String> keys) {
+        this.projection = keys;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(this.returnClass.getSimpleName().toLowerCase());
+        if (null != this.ids && 0 != this.ids.length)
+            arguments.add(Arrays.toString(this.ids));
+        if (!this.hasContainers.isEmpty())
+            arguments.add(this.hasContainers);
+        if (isSorted())
+            arguments.add("sort" + this.sortKeys);
+        if (this.tail)
+            arguments.add("tail(" + this.high + ")");
+        else if (hasRange())
+            arguments.add("range(" + this.low + "," + this.high + ")");
+        if (null != this.projection)
+            arguments.add("projection" + this.projection);
+        String aql = getAqlString();
+        if (null != aql)
+            arguments.add(aql);
+        return arguments.size() == 1 ? super.toString() : StringFactory.stepString(this, arguments.toArray());
+    }
+
+    @Override
+    public List<HasContainer> getHasContainers() {
+        return Collections.unmodifiableList(this.hasContainers);
+    }
+
+    @Override
+    public void addHasContainer(final HasContainer hasContainer) {
+        if (hasContainer.getPredicate() instanceof AndP) {
+            for (final P<?> predicate : ((AndP<?>) hasContainer.getPredicate()).getPredicates()) {
+                this.addHasContainer(new HasContainer(hasContainer.getKey(), predicate));
+            }
+        } else
+            this.hasContainers.add(hasContainer);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.hasContainers.hashCode() ^ this.sortKeys.hashCode() ^ Long.hashCode(this.low) ^ Long.hashCode(this.high) ^ Boolean.hashCode(this.tail) ^ Objects.hashCode(this.projection);
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,52 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBAddEdgeStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBAddVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+/**
+ * Replaces {@link AddVertexStep}s and {@link AddEdgeStep}s, i.e. {@code addV()} and {@code addE()} fed by other
+ * steps, e.g. {@code g.inject(rows).unfold().addV("item")}, with {@link ArangoDBAddVertexStep}s and
+ * {@link ArangoDBAddEdgeStep}s, so that the elements of a batch of traversers are inserted with one AQL query instead
+ * of one request per element and property. Steps notifying mutation listeners, e.g. registered by
+ * {@code EventStrategy}, are left untouched.
+ */
+public final class ArangoDBAddElementStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBAddElementStrategy INSTANCE = new ArangoDBAddElementStrategy();
+
+    private ArangoDBAddElementStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final AddVertexStep step : TraversalHelper.getStepsOfClass(AddVertexStep.class, traversal)) {
+            if (step instanceof ArangoDBAddVertexStep || !step.getMutatingCallbackRegistry().getCallbacks().isEmpty())
+                continue;
+            final ArangoDBAddVertexStep arangoStep = new ArangoDBAddVertexStep(step);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+        for (final AddEdgeStep step : TraversalHelper.getStepsOfClass(AddEdgeStep.class, traversal)) {
+            if (step instanceof ArangoDBAddEdgeStep || !step.getMutatingCallbackRegistry().getCallbacks().isEmpty())
+                continue;
+            final ArangoDBAddEdgeStep arangoStep = new ArangoDBAddEdgeStep(step);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+    }
+
+    public static ArangoDBAddElementStrategy instance() {
+        return INSTANCE;
+    }
+}
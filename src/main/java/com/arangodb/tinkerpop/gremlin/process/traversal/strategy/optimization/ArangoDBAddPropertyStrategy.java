@@ -0,0 +1,122 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphAddPropertyStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NoneStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.AddPropertyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.Parameters;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+
+import java.util.*;
+
+/**
+ * Sets properties on the server when {@code property()} steps directly follow a start {@link ArangoDBGraphStep} with
+ * AQL filters only, e.g. {@code g.V().hasLabel("account").property("status", "inactive")}, which is replaced by
+ * {@link ArangoDBGraphAddPropertyStep}. Supported are single cardinality properties with constant values, with
+ * constant meta properties on vertices. Steps notifying mutation listeners, e.g. registered by {@code EventStrategy},
+ * are left untouched.
+ */
+public final class ArangoDBAddPropertyStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBAddPropertyStrategy INSTANCE = new ArangoDBAddPropertyStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = Collections.singleton(ArangoDBGraphStepStrategy.class);
+
+    private ArangoDBAddPropertyStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final ArangoDBGraphStep<?, ?> graphStep : TraversalHelper.getStepsOfClass(ArangoDBGraphStep.class, traversal)) {
+            if (!graphStep.isStartStep() || !graphStep.getLabels().isEmpty() || graphStep.hasRange() || graphStep.isSorted()
+                    || !graphStep.getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))
+                continue;
+            final boolean vertices = Vertex.class.isAssignableFrom(graphStep.getReturnClass());
+            final List<AddPropertyStep<?>> propertySteps = new ArrayList<>();
+            Step<?, ?> nextStep = graphStep.getNextStep();
+            while (nextStep instanceof AddPropertyStep && isSupported((AddPropertyStep<?>) nextStep, vertices)) {
+                propertySteps.add((AddPropertyStep<?>) nextStep);
+                if (!nextStep.getLabels().isEmpty())
+                    break;
+                nextStep = nextStep.getNextStep();
+            }
+            if (propertySteps.isEmpty())
+                continue;
+
+            final AddPropertyStep<?> lastStep = propertySteps.get(propertySteps.size() - 1);
+            final ArangoDBGraphAddPropertyStep<?, ?> arangoStep = new ArangoDBGraphAddPropertyStep<>(graphStep);
+            for (final AddPropertyStep<?> step : propertySteps) {
+                final Map<Object, List<Object>> parameters = new LinkedHashMap<>(step.getParameters().getRaw());
+                final String key = (String) parameters.remove(T.key).get(0);
+                final Object value = parameters.remove(T.value).get(0);
+                final Map<String, Object> metaProperties = new LinkedHashMap<>();
+                parameters.forEach((k, v) -> metaProperties.put((String) k, v.get(0)));
+                arangoStep.addProperty(key, value, metaProperties);
+            }
+            // nothing is read from the elements of traversals iterated for their side effects
+            arangoStep.setReturnElements(!(lastStep.getNextStep() instanceof NoneStep));
+            TraversalHelper.copyLabels(lastStep, arangoStep, false);
+            TraversalHelper.insertBeforeStep((Step) arangoStep, (Step) graphStep, traversal);
+            while (arangoStep.getNextStep() != lastStep) {
+                traversal.removeStep(arangoStep.getNextStep());
+            }
+            traversal.removeStep(lastStep);
+        }
+    }
+
+    /**
+     * The step is supported if it sets a single property with a constant, valid value and, on vertices, constant
+     * valid meta properties.
+     */
+    private static boolean isSupported(final AddPropertyStep<?> step, final boolean vertices) {
+        final Parameters parameters = step.getParameters();
+        if (!step.getMutatingCallbackRegistry().getCallbacks().isEmpty() || !parameters.getTraversals().isEmpty())
+            return false;
+        final VertexProperty.Cardinality cardinality = step.getCardinality();
+        if (vertices ? null != cardinality && cardinality != VertexProperty.Cardinality.single : null != cardinality)
+            return false;
+        final Map<Object, List<Object>> raw = parameters.getRaw();
+        if (!raw.values().stream().allMatch(it -> it.size() == 1) || !vertices && raw.size() != 2
+                || !isValid(raw.get(T.key).get(0), raw.get(T.value).get(0)))
+            return false;
+        return raw.entrySet().stream()
+                .filter(it -> it.getKey() != T.key && it.getKey() != T.value)
+                .allMatch(it -> isValid(it.getKey(), it.getValue().get(0)));
+    }
+
+    private static boolean isValid(final Object key, final Object value) {
+        if (!(key instanceof String) || null == value)
+            return false;
+        try {
+            ElementHelper.validateProperty((String) key, value);
+            ArangoDBUtil.validatePropertyValue(value);
+        } catch (final IllegalArgumentException e) {
+            // left to the step, which reports it
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static ArangoDBAddPropertyStrategy instance() {
+        return INSTANCE;
+    }
+}
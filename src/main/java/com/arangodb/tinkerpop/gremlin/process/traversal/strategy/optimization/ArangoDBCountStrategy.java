@@ -0,0 +1,85 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBGraphCountStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Evaluates {@code count()} on the server when it directly follows:
+ * <ul>
+ *     <li>a start {@link ArangoDBGraphStep} with AQL filters only, e.g. {@code g.V().hasLabel("person").count()},
+ *     which is replaced by {@link ArangoDBGraphCountStep}</li>
+ *     <li>a {@link VertexStep} or an {@link ArangoDBVertexStep}, e.g. {@code out().count()}, which is then set to
+ *     count only the reached elements</li>
+ * </ul>
+ */
+public final class ArangoDBCountStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBCountStrategy INSTANCE = new ArangoDBCountStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoDBGraphStepStrategy.class,
+            ArangoDBVertexStepStrategy.class));
+
+    private ArangoDBCountStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final CountGlobalStep<?> countStep : TraversalHelper.getStepsOfClass(CountGlobalStep.class, traversal)) {
+            Step<?, ?> previousStep = countStep.getPreviousStep();
+            while (previousStep instanceof NoOpBarrierStep && previousStep.getLabels().isEmpty()) {
+                previousStep = previousStep.getPreviousStep();
+            }
+            if (!previousStep.getLabels().isEmpty())
+                continue;
+
+            if (previousStep instanceof ArangoDBGraphStep) {
+                final ArangoDBGraphStep<?, ?> graphStep = (ArangoDBGraphStep<?, ?>) previousStep;
+                if (!graphStep.isStartStep() || graphStep.hasRange() || graphStep.isSorted()
+                        || !graphStep.getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))
+                    continue;
+                final ArangoDBGraphCountStep<?> graphCountStep = new ArangoDBGraphCountStep<>(graphStep);
+                TraversalHelper.copyLabels(countStep, graphCountStep, false);
+                TraversalHelper.insertBeforeStep((Step) graphCountStep, (Step) graphStep, traversal);
+                while (graphCountStep.getNextStep() != countStep) {
+                    traversal.removeStep(graphCountStep.getNextStep());
+                }
+                traversal.removeStep(countStep);
+            } else if (previousStep instanceof ArangoDBVertexStep) {
+                ((ArangoDBVertexStep<?>) previousStep).setCountOnly();
+            } else if (previousStep instanceof VertexStep && ((VertexStep<?>) previousStep).getParameters().isEmpty()) {
+                final ArangoDBVertexStep<?> arangoVertexStep = new ArangoDBVertexStep<>(traversal, ((VertexStep<?>) previousStep).getReturnClass());
+                arangoVertexStep.addHop((VertexStep<?>) previousStep);
+                arangoVertexStep.setCountOnly();
+                TraversalHelper.replaceStep((Step) previousStep, arangoVertexStep, traversal);
+            }
+        }
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static ArangoDBCountStrategy instance() {
+        return INSTANCE;
+    }
+}
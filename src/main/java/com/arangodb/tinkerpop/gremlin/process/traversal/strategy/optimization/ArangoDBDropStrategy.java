@@ -0,0 +1,69 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.filter.ArangoDBGraphDropStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DropStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Evaluates {@code drop()} on the server when it directly follows a start {@link ArangoDBGraphStep} with AQL filters
+ * only, e.g. {@code g.V().has("tenant", "x").drop()}, which is replaced by {@link ArangoDBGraphDropStep}. Drops
+ * notifying mutation listeners, e.g. registered by {@code EventStrategy}, are left untouched.
+ */
+public final class ArangoDBDropStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBDropStrategy INSTANCE = new ArangoDBDropStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = Collections.singleton(ArangoDBGraphStepStrategy.class);
+
+    private ArangoDBDropStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final DropStep<?> dropStep : TraversalHelper.getStepsOfClass(DropStep.class, traversal)) {
+            if (!dropStep.getMutatingCallbackRegistry().getCallbacks().isEmpty())
+                continue;
+            Step<?, ?> previousStep = dropStep.getPreviousStep();
+            while (previousStep instanceof NoOpBarrierStep && previousStep.getLabels().isEmpty()) {
+                previousStep = previousStep.getPreviousStep();
+            }
+            if (!(previousStep instanceof ArangoDBGraphStep) || !previousStep.getLabels().isEmpty())
+                continue;
+            final ArangoDBGraphStep<?, ?> graphStep = (ArangoDBGraphStep<?, ?>) previousStep;
+            if (!graphStep.isStartStep() || graphStep.hasRange() || graphStep.isSorted()
+                    || !graphStep.getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))
+                continue;
+
+            final ArangoDBGraphDropStep<?> graphDropStep = new ArangoDBGraphDropStep<>(graphStep);
+            TraversalHelper.copyLabels(dropStep, graphDropStep, false);
+            TraversalHelper.insertBeforeStep((Step) graphDropStep, (Step) graphStep, traversal);
+            while (graphDropStep.getNextStep() != dropStep) {
+                traversal.removeStep(graphDropStep.getNextStep());
+            }
+            traversal.removeStep(dropStep);
+        }
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static ArangoDBDropStrategy instance() {
+        return INSTANCE;
+    }
+}
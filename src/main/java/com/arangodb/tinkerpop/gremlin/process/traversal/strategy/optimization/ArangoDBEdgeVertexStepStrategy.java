@@ -0,0 +1,57 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBEdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Replaces {@link EdgeVertexStep}s and {@link EdgeOtherVertexStep}s, i.e. {@code outV()}, {@code inV()},
+ * {@code bothV()} and {@code otherV()}, with {@link ArangoDBEdgeVertexStep}s, so that the vertices of the incoming
+ * edges are read with one AQL query per batch of edges instead of one request per edge.
+ */
+public final class ArangoDBEdgeVertexStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBEdgeVertexStepStrategy INSTANCE = new ArangoDBEdgeVertexStepStrategy();
+
+    // edge vertex steps fused into vertex steps are left to that strategy
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = Collections.singleton(ArangoDBVertexStepStrategy.class);
+
+    private ArangoDBEdgeVertexStepStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final EdgeVertexStep step : TraversalHelper.getStepsOfClass(EdgeVertexStep.class, traversal)) {
+            final ArangoDBEdgeVertexStep arangoStep = new ArangoDBEdgeVertexStep(traversal, step.getDirection(), false);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+        for (final EdgeOtherVertexStep step : TraversalHelper.getStepsOfClass(EdgeOtherVertexStep.class, traversal)) {
+            final ArangoDBEdgeVertexStep arangoStep = new ArangoDBEdgeVertexStep(traversal, Direction.BOTH, true);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static ArangoDBEdgeVertexStepStrategy instance() {
+        return INSTANCE;
+    }
+}
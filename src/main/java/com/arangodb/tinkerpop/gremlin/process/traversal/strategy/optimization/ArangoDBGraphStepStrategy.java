@@ -0,0 +1,153 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.GeoDistance;
+import com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.javatuples.Pair;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * Replaces {@link GraphStep} with {@link ArangoDBGraphStep} and folds the subsequent {@link HasStep}s into it, so
+ * that they can be evaluated as AQL filters. When the graph step starts the traversal and all its filters can be
+ * evaluated in AQL, a subsequent {@link OrderGlobalStep} by numeric properties, distances or similarities and then a
+ * {@link RangeGlobalStep} are folded as well, so that ordered top-k queries can be served by indexes. A
+ * {@link TailGlobalStep} after an order by numeric properties is folded by reversing the order.
+ */
+public final class ArangoDBGraphStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBGraphStepStrategy INSTANCE = new ArangoDBGraphStepStrategy();
+
+    private ArangoDBGraphStepStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final GraphStep originalGraphStep : TraversalHelper.getStepsOfClass(GraphStep.class, traversal)) {
+            final ArangoDBGraphStep<?, ?> arangoGraphStep = new ArangoDBGraphStep<>(originalGraphStep);
+            TraversalHelper.replaceStep(originalGraphStep, arangoGraphStep, traversal);
+            Step<?, ?> currentStep = arangoGraphStep.getNextStep();
+            while (currentStep instanceof HasStep || currentStep instanceof NoOpBarrierStep) {
+                if (currentStep instanceof HasStep) {
+                    for (final HasContainer hasContainer : ((HasContainerHolder) currentStep).getHasContainers()) {
+                        if (!(hasIdsOfSupportedType(hasContainer) && GraphStep.processHasContainerIds(arangoGraphStep, hasContainer)))
+                            arangoGraphStep.addHasContainer(hasContainer);
+                    }
+                    TraversalHelper.copyLabels(currentStep, currentStep.getPreviousStep(), false);
+                    traversal.removeStep(currentStep);
+                }
+                currentStep = currentStep.getNextStep();
+            }
+            if (!arangoGraphStep.isStartStep() || !arangoGraphStep.getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))
+                continue;
+            boolean reversible = false;
+            if (currentStep instanceof OrderGlobalStep && isSortSupported(arangoGraphStep, (OrderGlobalStep<?, ?>) currentStep)) {
+                reversible = ((OrderGlobalStep<?, ?>) currentStep).getComparators().stream().noneMatch(it -> isAqlComparator(it.getValue1()));
+                for (final Pair<? extends Traversal.Admin<?, ?>, ? extends Comparator<?>> comparator : ((OrderGlobalStep<?, ?>) currentStep).getComparators()) {
+                    if (isAqlComparator(comparator.getValue1()))
+                        arangoGraphStep.addSortKey(sortKey(comparator.getValue0()), (Comparator<Object>) comparator.getValue1());
+                    else
+                        arangoGraphStep.addSortKey(sortKey(comparator.getValue0()), comparator.getValue1() == Order.asc);
+                }
+                TraversalHelper.copyLabels(currentStep, currentStep.getPreviousStep(), false);
+                traversal.removeStep(currentStep);
+                currentStep = arangoGraphStep.getNextStep();
+            }
+            if (currentStep instanceof RangeGlobalStep) {
+                final RangeGlobalStep<?> rangeStep = (RangeGlobalStep<?>) currentStep;
+                arangoGraphStep.setRange(rangeStep.getLowRange(), rangeStep.getHighRange());
+                TraversalHelper.copyLabels(currentStep, currentStep.getPreviousStep(), false);
+                traversal.removeStep(currentStep);
+            } else if (currentStep instanceof TailGlobalStep && reversible) {
+                final long limit;
+                try {
+                    // not exposed by the step
+                    limit = (long) FieldUtils.readField(currentStep, "limit", true);
+                } catch (IllegalAccessException | IllegalArgumentException e) {
+                    continue;
+                }
+                arangoGraphStep.setTail(limit);
+                TraversalHelper.copyLabels(currentStep, currentStep.getPreviousStep(), false);
+                traversal.removeStep(currentStep);
+            }
+        }
+    }
+
+    /**
+     * Sorting by the distance of point properties with {@link GeoDistance} and by the similarity of vector properties
+     * with {@link VectorSimilarity} can be evaluated in AQL. Sorting by property values with {@link Order#asc} or
+     * {@link Order#desc} only when the graph step filters the property by a numeric range, as AQL sorts strings, ids
+     * and labels by collation, while Gremlin sorts them by code points.
+     */
+    private static boolean isSortSupported(final ArangoDBGraphStep<?, ?> graphStep, final OrderGlobalStep<?, ?> orderStep) {
+        return !orderStep.getComparators().isEmpty() && orderStep.getComparators().stream().allMatch(it -> {
+            final String key = sortKey(it.getValue0());
+            if (null == key || Graph.Hidden.isHidden(key))
+                return false;
+            if (isAqlComparator(it.getValue1()))
+                return true;
+            return (it.getValue1() == Order.asc || it.getValue1() == Order.desc) && isNumeric(graphStep, key);
+        });
+    }
+
+    private static boolean isAqlComparator(final Comparator<?> comparator) {
+        return comparator instanceof GeoDistance || comparator instanceof VectorSimilarity;
+    }
+
+    private static String sortKey(final Traversal.Admin<?, ?> traversal) {
+        if (traversal instanceof ValueTraversal && null == ((ValueTraversal<?, ?>) traversal).getBypassTraversal()) {
+            return ((ValueTraversal<?, ?>) traversal).getPropertyKey();
+        }
+        return null;
+    }
+
+    /**
+     * Range filters on numbers are only matched by numeric values, in AQL and in Gremlin.
+     */
+    private static boolean isNumeric(final ArangoDBGraphStep<?, ?> graphStep, final String key) {
+        return graphStep.getHasContainers().stream().anyMatch(it -> it.getKey().equals(key)
+                && it.getValue() instanceof Number
+                && (it.getBiPredicate() == Compare.lt || it.getBiPredicate() == Compare.lte
+                || it.getBiPredicate() == Compare.gt || it.getBiPredicate() == Compare.gte));
+    }
+
+    /**
+     * Only ids that can be parsed to element ids are folded into the graph step, the others are tested on the client,
+     * where they never match.
+     */
+    private static boolean hasIdsOfSupportedType(final HasContainer hasContainer) {
+        final Object value = hasContainer.getValue();
+        final Collection<?> ids = value instanceof Collection ? (Collection<?>) value : Collections.singleton(value);
+        return ids.stream().allMatch(it -> it instanceof String || it instanceof Element);
+    }
+
+    public static ArangoDBGraphStepStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,118 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.GroupQuery;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBGraphGroupStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.*;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces a start {@link ArangoDBGraphStep} with AQL filters only, followed by {@link GroupCountStep} or
+ * {@link GroupStep}, with {@link ArangoDBGraphGroupStep}. Groups must be keyed by a property key or the label, and
+ * {@code group()} values reduced by {@code count()}, {@code values(key).sum()} or {@code values(key).fold()}.
+ */
+public final class ArangoDBGroupStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBGroupStrategy INSTANCE = new ArangoDBGroupStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = Collections.singleton(ArangoDBGraphStepStrategy.class);
+
+    private ArangoDBGroupStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal) || !(traversal.getStartStep() instanceof ArangoDBGraphStep))
+            return;
+
+        final ArangoDBGraphStep<?, ?> graphStep = (ArangoDBGraphStep<?, ?>) traversal.getStartStep();
+        if (!graphStep.isStartStep() || !graphStep.getLabels().isEmpty() || graphStep.hasRange() || graphStep.isSorted()
+                || !graphStep.getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))
+            return;
+        Step<?, ?> groupStep = graphStep.getNextStep();
+        while (groupStep instanceof NoOpBarrierStep && groupStep.getLabels().isEmpty()) {
+            groupStep = groupStep.getNextStep();
+        }
+
+        final GroupQuery group;
+        if (groupStep instanceof GroupCountStep) {
+            final List<? extends Traversal.Admin<?, ?>> children = ((GroupCountStep<?, ?>) groupStep).getLocalChildren();
+            final String key = children.size() == 1 ? groupKey(children.get(0)) : null;
+            group = null == key ? null : new GroupQuery(key, GroupQuery.Reducer.COUNT, null);
+        } else if (groupStep instanceof GroupStep) {
+            final String key = groupKey(((GroupStep<?, ?, ?>) groupStep).getKeyTraversal());
+            group = null == key ? null : groupQuery(key, ((GroupStep<?, ?, ?>) groupStep).getValueTraversal());
+        } else {
+            return;
+        }
+        if (null == group)
+            return;
+
+        final ArangoDBGraphGroupStep<?> graphGroupStep = new ArangoDBGraphGroupStep<>(graphStep, group);
+        TraversalHelper.copyLabels(groupStep, graphGroupStep, false);
+        TraversalHelper.insertBeforeStep((Step) graphGroupStep, (Step) graphStep, traversal);
+        while (graphGroupStep.getNextStep() != groupStep) {
+            traversal.removeStep(graphGroupStep.getNextStep());
+        }
+        traversal.removeStep(groupStep);
+    }
+
+    /**
+     * @return the property key or label accessor the traversal extracts, or {@code null} if not supported
+     */
+    private static String groupKey(final Traversal.Admin<?, ?> traversal) {
+        if (traversal instanceof ValueTraversal && null == ((ValueTraversal<?, ?>) traversal).getBypassTraversal()) {
+            return ((ValueTraversal<?, ?>) traversal).getPropertyKey();
+        } else if (traversal instanceof TokenTraversal && ((TokenTraversal<?, ?>) traversal).getToken() == T.label) {
+            return T.label.getAccessor();
+        }
+        return null;
+    }
+
+    private static GroupQuery groupQuery(final String key, final Traversal.Admin<?, ?> valueTraversal) {
+        if (null == valueTraversal)
+            return null;
+        final List<Step> steps = valueTraversal.getSteps().stream()
+                .filter(it -> !(it instanceof NoOpBarrierStep))
+                .collect(Collectors.toList());
+        if (steps.stream().anyMatch(it -> !it.getLabels().isEmpty()))
+            return null;
+        if (steps.size() == 1 && steps.get(0) instanceof CountGlobalStep)
+            return new GroupQuery(key, GroupQuery.Reducer.COUNT, null);
+        if (steps.size() != 2 || !(steps.get(0) instanceof PropertiesStep))
+            return null;
+        final PropertiesStep<?> propertiesStep = (PropertiesStep<?>) steps.get(0);
+        if (propertiesStep.getReturnType() != PropertyType.VALUE || propertiesStep.getPropertyKeys().length != 1)
+            return null;
+        final String valueKey = propertiesStep.getPropertyKeys()[0];
+        if (steps.get(1) instanceof SumGlobalStep)
+            return new GroupQuery(key, GroupQuery.Reducer.SUM, valueKey);
+        if (steps.get(1) instanceof FoldStep && ((FoldStep<?, ?>) steps.get(1)).isListFold())
+            return new GroupQuery(key, GroupQuery.Reducer.FOLD, valueKey);
+        return null;
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static ArangoDBGroupStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,54 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBMergeEdgeStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBMergeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeEdgeStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+/**
+ * Replaces {@link MergeVertexStep}s and {@link MergeEdgeStep}s, i.e. {@code mergeV()} and {@code mergeE()}, with
+ * {@link ArangoDBMergeVertexStep}s and {@link ArangoDBMergeEdgeStep}s, so that the elements of a batch of traversers
+ * are merged with one AQL {@code UPSERT} instead of a lookup and one request per created or updated element. Steps
+ * notifying mutation listeners, e.g. registered by {@code EventStrategy}, or used with {@code PartitionStrategy} are
+ * left untouched.
+ */
+public final class ArangoDBMergeStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBMergeStrategy INSTANCE = new ArangoDBMergeStrategy();
+
+    private ArangoDBMergeStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final MergeVertexStep step : TraversalHelper.getStepsOfClass(MergeVertexStep.class, traversal)) {
+            if (step instanceof ArangoDBMergeVertexStep || step.isUsingPartitionStrategy()
+                    || !step.getMutatingCallbackRegistry().getCallbacks().isEmpty())
+                continue;
+            final ArangoDBMergeVertexStep arangoStep = new ArangoDBMergeVertexStep(step);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+        for (final MergeEdgeStep step : TraversalHelper.getStepsOfClass(MergeEdgeStep.class, traversal)) {
+            if (step instanceof ArangoDBMergeEdgeStep || step.isUsingPartitionStrategy()
+                    || !step.getMutatingCallbackRegistry().getCallbacks().isEmpty())
+                continue;
+            final ArangoDBMergeEdgeStep arangoStep = new ArangoDBMergeEdgeStep(step);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+    }
+
+    public static ArangoDBMergeStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,99 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.*;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+
+import java.util.*;
+
+/**
+ * Reads only the properties needed by the next step, when the elements returned by an {@link ArangoDBGraphStep} or a
+ * vertex step are only consumed by {@code values(keys)}, {@code valueMap(keys)}, {@code elementMap(keys)},
+ * {@code id()} or {@code label()}. Since the elements are not observable elsewhere, i.e. they are not labeled and
+ * paths are not required, reading them partially is not noticeable.
+ */
+public final class ArangoDBProjectionStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBProjectionStrategy INSTANCE = new ArangoDBProjectionStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoDBGraphStepStrategy.class,
+            ArangoDBVertexStepStrategy.class,
+            ArangoDBCountStrategy.class));
+
+    private ArangoDBProjectionStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal) || requiresPath(TraversalHelper.getRootTraversal(traversal)))
+            return;
+
+        for (final Step<?, ?> step : new ArrayList<>(traversal.getSteps())) {
+            if (!step.getLabels().isEmpty())
+                continue;
+            final Set<String> keys = projection(step.getNextStep());
+            if (null == keys)
+                continue;
+            if (step instanceof ArangoDBGraphStep) {
+                final ArangoDBGraphStep<?, ?> graphStep = (ArangoDBGraphStep<?, ?>) step;
+                // residual filters are evaluated on the client and may need other properties
+                if (graphStep.getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))
+                    graphStep.setProjection(keys);
+            } else if (step instanceof ArangoDBVertexStep) {
+                // vertex steps without parameters are already replaced by ArangoDBVertexStepStrategy
+                ((ArangoDBVertexStep<?>) step).setProjection(keys);
+            }
+        }
+    }
+
+    /**
+     * @return the property keys needed by the step, or {@code null} if the step may need the whole element
+     */
+    private static Set<String> projection(final Step<?, ?> step) {
+        if (step instanceof IdStep || step instanceof LabelStep) {
+            return Collections.emptySet();
+        } else if (step instanceof PropertiesStep) {
+            final PropertiesStep<?> propertiesStep = (PropertiesStep<?>) step;
+            return propertiesStep.getReturnType() == PropertyType.VALUE && propertiesStep.getParameters().isEmpty() ?
+                    keys(propertiesStep.getPropertyKeys()) : null;
+        } else if (step instanceof PropertyMapStep) {
+            final PropertyMapStep<?, ?> propertyMapStep = (PropertyMapStep<?, ?>) step;
+            return propertyMapStep.getReturnType() == PropertyType.VALUE && propertyMapStep.getParameters().isEmpty()
+                    && null == propertyMapStep.getPropertyTraversal() ? keys(propertyMapStep.getPropertyKeys()) : null;
+        } else if (step instanceof ElementMapStep) {
+            return keys(((ElementMapStep<?, ?>) step).getPropertyKeys());
+        }
+        return null;
+    }
+
+    /**
+     * @return the given keys, or {@code null} if empty, i.e. all the properties are needed
+     */
+    private static Set<String> keys(final String[] keys) {
+        return keys.length == 0 ? null : new HashSet<>(Arrays.asList(keys));
+    }
+
+    private static boolean requiresPath(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.anyStepRecursively(step -> step instanceof LambdaHolder ||
+                step.getRequirements().contains(TraverserRequirement.PATH), traversal);
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static ArangoDBProjectionStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,169 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBRepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.LoopTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TrueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.OrStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.javatuples.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces {@link RepeatStep}s of a single {@link VertexStep} returning vertices, e.g.
+ * {@code repeat(out("knows")).times(3)}, with an {@link ArangoDBRepeatStep}, so that all the iterations are
+ * evaluated with one AQL traversal per incoming vertex. Supported patterns are:
+ * <ul>
+ *     <li>{@code times(n)}, optionally with {@code emit()} after or before {@code repeat()}</li>
+ *     <li>{@code until()} of {@code has()} filters that can be evaluated in AQL, bounded by a number of iterations,
+ *     e.g. {@code until(has("name", "x").or().loops().is(5))}, optionally with {@code emit()} after or before
+ *     {@code repeat()} if {@code until()} follows {@code repeat()}</li>
+ * </ul>
+ * Unbounded {@code until()} filters are left untouched, since the AQL traversal would expand all the paths up to a
+ * fixed depth at once, exponentially many in cyclic graphs.
+ * Repeats whose intermediate vertices are observable, i.e. labeled steps or traversals requiring paths, are left
+ * untouched.
+ */
+public final class ArangoDBRepeatStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBRepeatStrategy INSTANCE = new ArangoDBRepeatStrategy();
+
+    private ArangoDBRepeatStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal) || requiresPath(TraversalHelper.getRootTraversal(traversal)))
+            return;
+
+        for (final RepeatStep<?> repeatStep : TraversalHelper.getStepsOfClass(RepeatStep.class, traversal)) {
+            final VertexStep<?> vertexStep = repeatedVertexStep(repeatStep);
+            if (null == vertexStep || null != repeatStep.getLoopName())
+                continue;
+            final Traversal.Admin<?, ?> untilTraversal = repeatStep.getUntilTraversal();
+            final Traversal.Admin<?, ?> emitTraversal = repeatStep.getEmitTraversal();
+            final boolean emit = null != emitTraversal;
+            if (emit && !(emitTraversal instanceof TrueTraversal))
+                continue;
+
+            final ArangoDBRepeatStep arangoRepeatStep;
+            if (untilTraversal instanceof LoopTraversal) {
+                if (emit && repeatStep.untilFirst)
+                    continue;
+                final int times = (int) Math.min(((LoopTraversal<?>) untilTraversal).getMaxLoops(), Integer.MAX_VALUE);
+                // the loop condition is tested after the first iteration, unless it precedes repeat()
+                final int maxDepth = repeatStep.untilFirst ? times : Math.max(times, 1);
+                final int minDepth = emit ? (repeatStep.emitFirst ? 0 : 1) : maxDepth;
+                arangoRepeatStep = new ArangoDBRepeatStep(traversal, vertexStep.getDirection(), vertexStep.getEdgeLabels(), minDepth, maxDepth);
+            } else {
+                final Pair<List<HasContainer>, Integer> until = boundedUntil(untilTraversal, repeatStep.untilFirst);
+                if (null == until || emit && repeatStep.untilFirst)
+                    continue;
+                final int minDepth = repeatStep.untilFirst || emit && repeatStep.emitFirst ? 0 : 1;
+                arangoRepeatStep = new ArangoDBRepeatStep(traversal, vertexStep.getDirection(), vertexStep.getEdgeLabels(), minDepth, until.getValue1());
+                arangoRepeatStep.setUntil(until.getValue0(), repeatStep.untilFirst);
+            }
+            if (emit)
+                arangoRepeatStep.setEmit();
+            TraversalHelper.copyLabels(repeatStep, arangoRepeatStep, false);
+            TraversalHelper.replaceStep((Step) repeatStep, arangoRepeatStep, traversal);
+        }
+    }
+
+    /**
+     * @return the single vertex step returning vertices repeated by the given step, or {@code null}
+     */
+    private static VertexStep<?> repeatedVertexStep(final RepeatStep<?> repeatStep) {
+        final List<Step> steps = repeatStep.getRepeatTraversal().getSteps();
+        // the last step is the RepeatEndStep
+        if (steps.size() != 2 || !(steps.get(0) instanceof VertexStep) || !steps.get(0).getLabels().isEmpty())
+            return null;
+        final VertexStep<?> vertexStep = (VertexStep<?>) steps.get(0);
+        return vertexStep.returnsVertex() && vertexStep.getParameters().isEmpty() ? vertexStep : null;
+    }
+
+    /**
+     * @return the filters and the maximum depth of an until traversal of the form {@code or(has(...), loops().is(n))},
+     * or {@code null}
+     */
+    private static Pair<List<HasContainer>, Integer> boundedUntil(final Traversal.Admin<?, ?> untilTraversal, final boolean untilFirst) {
+        if (null == untilTraversal || untilTraversal.getSteps().size() != 1 || !(untilTraversal.getStartStep() instanceof OrStep)
+                || !untilTraversal.getStartStep().getLabels().isEmpty())
+            return null;
+        final List<? extends Traversal.Admin<?, ?>> children = ((OrStep<?>) untilTraversal.getStartStep()).getLocalChildren();
+        if (children.size() != 2)
+            return null;
+        for (int i = 0; i < 2; i++) {
+            final Integer loops = maxLoops(children.get(i));
+            final List<HasContainer> filters = untilFilters(children.get(1 - i));
+            if (null == loops || null == filters)
+                continue;
+            // loops() is the number of iterations, tested after the first one unless until() precedes repeat()
+            if (untilFirst)
+                return Pair.with(filters, loops);
+            return loops > 0 ? Pair.with(filters, loops) : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of iterations {@code n} of a traversal {@code loops().is(n)} or {@code loops().is(gte(n))},
+     * or {@code null}
+     */
+    private static Integer maxLoops(final Traversal.Admin<?, ?> traversal) {
+        final List<Step> steps = traversal.getSteps();
+        if (steps.size() != 2 || !(steps.get(0) instanceof LoopsStep) || !(steps.get(1) instanceof IsStep)
+                || !steps.get(0).getLabels().isEmpty() || !steps.get(1).getLabels().isEmpty())
+            return null;
+        // the loops of another repeat() are named
+        if (!steps.get(0).equals(new LoopsStep<>(traversal, null)))
+            return null;
+        final P<?> predicate = ((IsStep<?>) steps.get(1)).getPredicate();
+        if (!(predicate.getValue() instanceof Integer || predicate.getValue() instanceof Long) || ((Number) predicate.getValue()).longValue() < 0)
+            return null;
+        // loops() grows by one at each iteration, so that it first reaches a lower bound at the bound itself
+        return predicate.getBiPredicate() == Compare.eq || predicate.getBiPredicate() == Compare.gte ?
+                (int) Math.min(((Number) predicate.getValue()).longValue(), Integer.MAX_VALUE) : null;
+    }
+
+    /**
+     * @return the filters of an until traversal of {@link HasStep}s that can be evaluated in AQL, or {@code null}
+     */
+    private static List<HasContainer> untilFilters(final Traversal.Admin<?, ?> untilTraversal) {
+        if (null == untilTraversal || untilTraversal.getSteps().isEmpty())
+            return null;
+        final List<HasContainer> filters = new ArrayList<>();
+        for (final Step<?, ?> step : untilTraversal.getSteps()) {
+            if (!(step instanceof HasStep) || !step.getLabels().isEmpty())
+                return null;
+            filters.addAll(((HasStep<?>) step).getHasContainers());
+        }
+        return filters.stream().allMatch(ArangoDBQueryBuilder::isFilterSupported) ? filters : null;
+    }
+
+    private static boolean requiresPath(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.anyStepRecursively(step -> step instanceof LambdaHolder ||
+                step.getRequirements().contains(TraverserRequirement.PATH), traversal);
+    }
+
+    public static ArangoDBRepeatStrategy instance() {
+        return INSTANCE;
+    }
+}
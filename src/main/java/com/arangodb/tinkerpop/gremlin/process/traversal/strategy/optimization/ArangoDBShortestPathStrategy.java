@@ -0,0 +1,201 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.client.ShortestPathQuery;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBShortestPath;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBShortestPathStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ShortestPath;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ShortestPathVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.*;
+
+/**
+ * Replaces {@link ShortestPathVertexProgramStep}, which requires a graph computer, with an
+ * {@link ArangoDBShortestPathStep}, so that {@code shortestPath()} is evaluated with AQL path searches. The options
+ * of {@link ShortestPath} are supported when:
+ * <ul>
+ *     <li>{@link ShortestPath#edges} is a direction or a single vertex step returning edges, e.g. {@code outE("knows")}</li>
+ *     <li>{@link ShortestPath#target} is made of {@code has()} filters that can be evaluated in AQL, or {@code hasId()}</li>
+ *     <li>{@link ShortestPath#distance} is the default hop count or an edge property key</li>
+ * </ul>
+ * The options of {@link ArangoDBShortestPath} select the paths to return for each target. Searches that AQL path
+ * searches cannot evaluate, i.e. with weighted distances or with edge labels in SIMPLE graphs, are only replaced when
+ * the depth of the paths to enumerate is bounded, see {@link ArangoDBShortestPath#maxDepth}.
+ */
+public final class ArangoDBShortestPathStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBShortestPathStrategy INSTANCE = new ArangoDBShortestPathStrategy();
+
+    private ArangoDBShortestPathStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final ShortestPathVertexProgramStep step : TraversalHelper.getStepsOfClass(ShortestPathVertexProgramStep.class, traversal)) {
+            // target, edges and distance traversals
+            final List<Traversal.Admin<?, ?>> children = step.getLocalChildren();
+            final Traversal.Admin<?, ?> targetTraversal = children.get(0);
+            final VertexStep<?> edgeStep = edgeStep(children.get(1));
+            final Traversal.Admin<?, ?> distanceTraversal = children.get(2);
+            final boolean hopCount = isHopCount(distanceTraversal);
+            final String weightKey = hopCount ? null : weightKey(distanceTraversal);
+            final Map<Object, List<Object>> options = step.getParameters().getRaw();
+            if (null == edgeStep || !isTargetSupported(targetTraversal) || !hopCount && null == weightKey || !options.keySet().stream()
+                    .allMatch(it -> it.equals(ArangoDBShortestPath.k) || it.equals(ArangoDBShortestPath.single) || it.equals(ArangoDBShortestPath.maxDepth)))
+                continue;
+            final Number maxDistance;
+            final boolean includeEdges;
+            try {
+                // not exposed by the step
+                maxDistance = (Number) FieldUtils.readField(step, "maxDistance", true);
+                includeEdges = (Boolean) FieldUtils.readField(step, "includeEdges", true);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                continue;
+            }
+            final Integer maxDepth = options.containsKey(ArangoDBShortestPath.maxDepth) ?
+                    ((Number) options.get(ArangoDBShortestPath.maxDepth).get(0)).intValue() : null;
+            // enumerating the paths on the server is exponential in their length, which must then be bounded
+            if (!isSearchSupported(traversal, null != weightKey, edgeStep.getEdgeLabels().length > 0)
+                    && null == maxDepth && (null != weightKey || null == maxDistance))
+                continue;
+
+            final ArangoDBShortestPathStep arangoStep = new ArangoDBShortestPathStep(traversal, edgeStep.getDirection(), edgeStep.getEdgeLabels());
+            arangoStep.setTargets(targetIds(targetTraversal), targetFilters(targetTraversal));
+            if (options.containsKey(ArangoDBShortestPath.k)) {
+                arangoStep.setAlgorithm(ShortestPathQuery.Algorithm.K_SHORTEST_PATHS, ((Number) options.get(ArangoDBShortestPath.k).get(0)).intValue());
+            } else if (options.containsKey(ArangoDBShortestPath.single) && Boolean.TRUE.equals(options.get(ArangoDBShortestPath.single).get(0))) {
+                arangoStep.setAlgorithm(ShortestPathQuery.Algorithm.SHORTEST_PATH, 1);
+            }
+            arangoStep.setWeight(weightKey);
+            arangoStep.setMaxDistance(maxDistance);
+            arangoStep.setMaxDepth(maxDepth);
+            arangoStep.setIncludeEdges(includeEdges);
+            TraversalHelper.copyLabels(step, arangoStep, false);
+            TraversalHelper.replaceStep((Step) step, arangoStep, traversal);
+        }
+    }
+
+    private static boolean isSearchSupported(final Traversal.Admin<?, ?> traversal, final boolean weighted, final boolean labeled) {
+        return traversal.getGraph()
+                .filter(ArangoDBGraph.class::isInstance)
+                .map(it -> ((ArangoDBGraph) it).getClient().isShortestPathSearchSupported(weighted, labeled))
+                .orElse(false);
+    }
+
+    /**
+     * @return the single vertex step returning edges of the edge traversal, or {@code null}
+     */
+    private static VertexStep<?> edgeStep(final Traversal.Admin<?, ?> edgeTraversal) {
+        final List<Step> steps = edgeTraversal.getSteps();
+        if (steps.size() != 1 || !(steps.get(0) instanceof VertexStep))
+            return null;
+        final VertexStep<?> vertexStep = (VertexStep<?>) steps.get(0);
+        return !vertexStep.returnsVertex() && vertexStep.getParameters().isEmpty() ? vertexStep : null;
+    }
+
+    /**
+     * The target traversal is supported if made of {@link HasStep}s that can be evaluated in AQL, with at most one
+     * filter on ids.
+     */
+    private static boolean isTargetSupported(final Traversal.Admin<?, ?> targetTraversal) {
+        int idFilters = 0;
+        for (final Step<?, ?> step : targetTraversal.getSteps()) {
+            if (step instanceof IdentityStep)
+                continue;
+            if (!(step instanceof HasStep))
+                return false;
+            for (final HasContainer container : ((HasStep<?>) step).getHasContainers()) {
+                if (isIdFilter(container)) {
+                    final Object value = container.getValue();
+                    final Collection<?> ids = value instanceof Collection ? (Collection<?>) value : Collections.singleton(value);
+                    if (++idFilters > 1 || !(container.getBiPredicate() == Compare.eq || container.getBiPredicate() == Contains.within)
+                            || !ids.stream().allMatch(it -> it instanceof String || it instanceof Element))
+                        return false;
+                } else if (!ArangoDBQueryBuilder.isFilterSupported(container)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the ids of the supported target traversal, or {@code null} if not filtered by id
+     */
+    private static List<Object> targetIds(final Traversal.Admin<?, ?> targetTraversal) {
+        return hasContainers(targetTraversal).stream()
+                .filter(ArangoDBShortestPathStrategy::isIdFilter)
+                .findFirst()
+                .map(it -> it.getValue() instanceof Collection ?
+                        new ArrayList<Object>((Collection<?>) it.getValue()) :
+                        new ArrayList<>(Collections.singletonList(it.getValue())))
+                .orElse(null);
+    }
+
+    private static List<HasContainer> targetFilters(final Traversal.Admin<?, ?> targetTraversal) {
+        final List<HasContainer> filters = new ArrayList<>(hasContainers(targetTraversal));
+        filters.removeIf(ArangoDBShortestPathStrategy::isIdFilter);
+        return filters;
+    }
+
+    private static List<HasContainer> hasContainers(final Traversal.Admin<?, ?> traversal) {
+        final List<HasContainer> containers = new ArrayList<>();
+        for (final HasStep<?> step : TraversalHelper.getStepsOfClass(HasStep.class, traversal)) {
+            containers.addAll(step.getHasContainers());
+        }
+        return containers;
+    }
+
+    private static boolean isIdFilter(final HasContainer container) {
+        return container.getKey().equals(T.id.getAccessor());
+    }
+
+    /**
+     * @return whether the distance traversal is the default one, counting 1 per edge
+     */
+    private static boolean isHopCount(final Traversal.Admin<?, ?> distanceTraversal) {
+        final List<Step> steps = distanceTraversal.getSteps();
+        if (steps.size() != 1 || !(steps.get(0) instanceof ConstantStep))
+            return false;
+        final Object constant = ((ConstantStep<?, ?>) steps.get(0)).getConstant();
+        return constant instanceof Number && ((Number) constant).doubleValue() == 1.0;
+    }
+
+    /**
+     * @return the edge property key read by the distance traversal, or {@code null} if not supported
+     */
+    private static String weightKey(final Traversal.Admin<?, ?> distanceTraversal) {
+        final List<Step> steps = distanceTraversal.getSteps();
+        if (steps.size() != 1 || !(steps.get(0) instanceof PropertiesStep))
+            return null;
+        final PropertiesStep<?> propertiesStep = (PropertiesStep<?>) steps.get(0);
+        return propertiesStep.getReturnType() == PropertyType.VALUE && propertiesStep.getPropertyKeys().length == 1 ?
+                propertiesStep.getPropertyKeys()[0] : null;
+    }
+
+    public static ArangoDBShortestPathStrategy instance() {
+        return INSTANCE;
+    }
+}
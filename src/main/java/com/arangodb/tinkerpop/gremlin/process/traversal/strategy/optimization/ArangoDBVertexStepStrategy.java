@@ -0,0 +1,159 @@
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBQueryBuilder;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.*;
+
+/**
+ * Replaces {@link VertexStep}s with {@link ArangoDBVertexStep}s, so that they are evaluated with one AQL query per
+ * batch of incoming vertices. Chains of adjacent vertex steps, e.g. {@code out().in().out("knows")}, are replaced with
+ * a single step evaluating the whole chain. Chains whose intermediate vertices are observable, i.e. labeled steps or
+ * traversals requiring paths, are replaced step by step.
+ * <p>
+ * Edge steps whose edges are only filtered and then left through their other vertex, e.g.
+ * {@code outE("rated").has("score", gt(3)).inV()}, are fused into a single hop filtering the traversed edges, so that
+ * the vertices are read by the same AQL traversal as the edges.
+ * <p>
+ * When vertex steps are followed by {@code range()} or {@code limit()}, each AQL query reads at most as many elements
+ * per incoming vertex as the end of the range. The range step is kept, since it applies to the results of all the
+ * incoming vertices.
+ */
+public final class ArangoDBVertexStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDBVertexStepStrategy INSTANCE = new ArangoDBVertexStepStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoDBRepeatStrategy.class,
+            ArangoDBShortestPathStrategy.class));
+
+    private ArangoDBVertexStepStrategy() {
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        final boolean requiresPath = requiresPath(TraversalHelper.getRootTraversal(traversal));
+        for (final VertexStep<?> vertexStep : TraversalHelper.getStepsOfClass(VertexStep.class, traversal)) {
+            // steps already fused into a preceding chain
+            if (traversal.getSteps().stream().noneMatch(it -> it == vertexStep) || !vertexStep.getParameters().isEmpty())
+                continue;
+            final List<Step<?, ?>> chain = new ArrayList<>(hop(vertexStep, requiresPath));
+            Step<?, ?> currentStep = chain.get(chain.size() - 1).getNextStep();
+            while (!requiresPath && isExtensible(chain.get(chain.size() - 1))) {
+                if (currentStep instanceof NoOpBarrierStep && currentStep.getLabels().isEmpty()) {
+                    chain.add(currentStep);
+                } else if (currentStep instanceof VertexStep && ((VertexStep<?>) currentStep).getParameters().isEmpty()) {
+                    chain.addAll(hop((VertexStep<?>) currentStep, false));
+                } else {
+                    break;
+                }
+                currentStep = chain.get(chain.size() - 1).getNextStep();
+            }
+            // trailing barriers are kept after the fused step
+            while (chain.get(chain.size() - 1) instanceof NoOpBarrierStep) {
+                chain.remove(chain.size() - 1);
+            }
+            final Step<?, ?> lastStep = chain.get(chain.size() - 1);
+            final RangeGlobalStep<?> rangeStep = nextRangeStep(lastStep);
+            final Class returnClass = lastStep instanceof VertexStep ? ((VertexStep<?>) lastStep).getReturnClass() : Vertex.class;
+            final ArangoDBVertexStep<?> arangoVertexStep = new ArangoDBVertexStep<>(traversal, returnClass);
+            VertexStep<?> hopStep = null;
+            final List<HasContainer> edgeFilters = new ArrayList<>();
+            for (final Step<?, ?> step : chain) {
+                if (step instanceof VertexStep) {
+                    if (null != hopStep)
+                        arangoVertexStep.addHop(hopStep, edgeFilters);
+                    hopStep = (VertexStep<?>) step;
+                    edgeFilters.clear();
+                } else if (step instanceof HasStep) {
+                    edgeFilters.addAll(((HasStep<?>) step).getHasContainers());
+                }
+            }
+            arangoVertexStep.addHop(hopStep, edgeFilters);
+            if (null != rangeStep)
+                arangoVertexStep.setLimit(rangeStep.getHighRange());
+            TraversalHelper.copyLabels(lastStep, arangoVertexStep, false);
+            TraversalHelper.insertBeforeStep((Step) arangoVertexStep, (Step) vertexStep, traversal);
+            chain.forEach(traversal::removeStep);
+        }
+    }
+
+    /**
+     * A chain can be extended after steps whose output is not observable, i.e. unlabeled steps returning vertices.
+     */
+    private static boolean isExtensible(final Step<?, ?> step) {
+        return step.getLabels().isEmpty() && (step instanceof NoOpBarrierStep || step instanceof EdgeVertexStep
+                || step instanceof EdgeOtherVertexStep || ((VertexStep<?>) step).returnsVertex());
+    }
+
+    /**
+     * @return the steps of the hop starting at the given vertex step, i.e. the step itself or, if it returns edges
+     * that are only filtered and then left through their other vertex, e.g. {@code outE().has("weight", gt(0.5)).inV()},
+     * all the steps up to the one reading the vertex
+     */
+    private static List<Step<?, ?>> hop(final VertexStep<?> vertexStep, final boolean requiresPath) {
+        final List<Step<?, ?>> steps = new ArrayList<>();
+        steps.add(vertexStep);
+        if (requiresPath || vertexStep.returnsVertex() || !vertexStep.getLabels().isEmpty())
+            return steps;
+        Step<?, ?> currentStep = vertexStep.getNextStep();
+        while (currentStep.getLabels().isEmpty() && (currentStep instanceof NoOpBarrierStep || currentStep instanceof HasStep
+                && ((HasStep<?>) currentStep).getHasContainers().stream().allMatch(ArangoDBQueryBuilder::isFilterSupported))) {
+            steps.add(currentStep);
+            currentStep = currentStep.getNextStep();
+        }
+        if (currentStep instanceof EdgeOtherVertexStep || currentStep instanceof EdgeVertexStep
+                && vertexStep.getDirection() != Direction.BOTH
+                && ((EdgeVertexStep) currentStep).getDirection() == vertexStep.getDirection().opposite()) {
+            steps.add(currentStep);
+            return steps;
+        }
+        return Collections.singletonList(vertexStep);
+    }
+
+    /**
+     * @return the range step with an upper bound following the given step, skipping barriers, or {@code null}
+     */
+    private static RangeGlobalStep<?> nextRangeStep(final Step<?, ?> step) {
+        Step<?, ?> currentStep = step.getNextStep();
+        while (currentStep instanceof NoOpBarrierStep) {
+            currentStep = currentStep.getNextStep();
+        }
+        return currentStep instanceof RangeGlobalStep && ((RangeGlobalStep<?>) currentStep).getHighRange() >= 0 ?
+                (RangeGlobalStep<?>) currentStep : null;
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    private static boolean requiresPath(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.anyStepRecursively(step -> step instanceof LambdaHolder ||
+                step.getRequirements().contains(TraverserRequirement.PATH), traversal);
+    }
+
+    public static ArangoDBVertexStepStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -21,6 +21,7 @@ package com.arangodb.tinkerpop.gremlin.structure;
 
 import com.arangodb.tinkerpop.gremlin.persistence.EdgeData;
 import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -78,7 +79,13 @@ public class ArangoDBEdge extends ArangoDBSimpleElement<EdgeData> implements Edg
             case IN:
                 return IteratorUtils.of(this.inVertex());
             default:
-                return IteratorUtils.of(this.outVertex(), this.inVertex());
+                // both vertices with a single request
+                Map<ElementId, VertexData> vertices = new HashMap<>();
+                graph.getClient().getGraphVertices(Arrays.asList(data.getFrom(), data.getTo()))
+                        .forEach(it -> vertices.put(it.elementId(), it));
+                return IteratorUtils.of(
+                        new ArangoDBVertex(graph, vertices.get(data.getFrom())),
+                        new ArangoDBVertex(graph, vertices.get(data.getTo())));
         }
     }
 
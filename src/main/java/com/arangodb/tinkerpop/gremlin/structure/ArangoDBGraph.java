@@ -9,17 +9,36 @@
 package com.arangodb.tinkerpop.gremlin.structure;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import com.arangodb.tinkerpop.gremlin.PackageVersion;
 import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
 import com.arangodb.tinkerpop.gremlin.persistence.ElementIdFactory;
 import com.arangodb.tinkerpop.gremlin.persistence.VariablesData;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexPropertyData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.AqlStep;
 import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.AQLStartStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBAddElementStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBAddPropertyStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBCountStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBDropStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBEdgeVertexStepStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBGraphStepStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBGroupStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBMergeStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBProjectionStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBRepeatStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBShortestPathStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDBVertexStepStrategy;
 import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
 import org.apache.commons.configuration2.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
@@ -28,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.arangodb.ArangoGraph;
+import com.arangodb.tinkerpop.gremlin.client.AqlExplanation;
 import com.arangodb.tinkerpop.gremlin.client.ArangoDBGraphClient;
 
 public class ArangoDBGraph implements Graph {
@@ -35,6 +55,22 @@ public class ArangoDBGraph implements Graph {
     private static final Logger LOGGER = LoggerFactory.getLogger(ArangoDBGraph.class);
     private static final Features FEATURES = new ArangoDBGraphFeatures();
 
+    static {
+        TraversalStrategies.GlobalCache.registerStrategies(ArangoDBGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone().addStrategies(
+                ArangoDBGraphStepStrategy.instance(),
+                ArangoDBVertexStepStrategy.instance(),
+                ArangoDBAddElementStrategy.instance(),
+                ArangoDBAddPropertyStrategy.instance(),
+                ArangoDBCountStrategy.instance(),
+                ArangoDBDropStrategy.instance(),
+                ArangoDBEdgeVertexStepStrategy.instance(),
+                ArangoDBGroupStrategy.instance(),
+                ArangoDBMergeStrategy.instance(),
+                ArangoDBProjectionStrategy.instance(),
+                ArangoDBRepeatStrategy.instance(),
+                ArangoDBShortestPathStrategy.instance()));
+    }
+
     private final ArangoDBGraphClient client;
     private final ElementIdFactory idFactory;
     private final ArangoDBGraphConfig config;
@@ -53,6 +89,10 @@ public class ArangoDBGraph implements Graph {
 
     protected ArangoDBGraph(Configuration cfg) {
         LOGGER.debug("Creating new ArangoDB Graph from configuration");
+        // strategies are looked up by the concrete graph class, subclasses use the same ones
+        if (!TraversalStrategies.GlobalCache.getStrategies(getClass()).getStrategy(ArangoDBGraphStepStrategy.class).isPresent()) {
+            TraversalStrategies.GlobalCache.registerStrategies(getClass(), TraversalStrategies.GlobalCache.getStrategies(ArangoDBGraph.class));
+        }
         config = new ArangoDBGraphConfig(cfg);
         idFactory = new ElementIdFactory(config);
         client = new ArangoDBGraphClient(config, idFactory, this);
@@ -63,6 +103,8 @@ public class ArangoDBGraph implements Graph {
         } else {
             client.createGraph(name(), config.edgeDefinitions, config.orphanCollections);
         }
+        client.ensureSearchViews();
+        client.ensureGeoIndexes();
 
         client.ensureVariablesDataCollection();
         VariablesData variablesData = Optional
@@ -85,8 +127,34 @@ public class ArangoDBGraph implements Graph {
         return config.graphType;
     }
 
+    public int traversalBatchSize() {
+        return config.traversalBatchSize;
+    }
+
+    public int traversalConcurrency() {
+        return config.traversalConcurrency;
+    }
+
+    public int insertBatchSize() {
+        return config.insertBatchSize;
+    }
+
     @Override
     public Vertex addVertex(Object... keyValues) {
+        // the vertex is inserted together with all its properties
+        ArangoDBVertex vertex = createVertex(keyValues);
+        vertex.doInsert();
+        return vertex;
+    }
+
+    /**
+     * Create a vertex with all its properties, without inserting it, as {@link #addVertex(Object...)} does before
+     * inserting it.
+     *
+     * @param keyValues the key values of the vertex
+     * @return the vertex to insert, see {@link #insertVertices(List)}
+     */
+    public ArangoDBVertex createVertex(Object... keyValues) {
         ElementHelper.legalPropertyKeyValueArray(keyValues);
         String label = ElementHelper.getLabelValue(keyValues).orElse(null);
         ElementId id = idFactory.createVertexId(label, keyValues);
@@ -97,12 +165,61 @@ public class ArangoDBGraph implements Graph {
         if (!config.vertices.contains(vertex.collection())) {
             throw new IllegalArgumentException(String.format("Vertex collection (%s) not in graph (%s).", vertex.collection(), name()));
         }
-
-        vertex.doInsert();
-        ElementHelper.attachProperties(vertex, keyValues);
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            if (keyValues[i] instanceof String) {
+                ElementHelper.validateProperty((String) keyValues[i], keyValues[i + 1]);
+                vertex.data().put((String) keyValues[i], new VertexPropertyData(keyValues[i + 1]));
+            }
+        }
         return vertex;
     }
 
+    /**
+     * Insert vertices created by {@link #createVertex(Object...)} with a single AQL query.
+     *
+     * @param vertices the vertices to insert
+     */
+    public void insertVertices(List<ArangoDBVertex> vertices) {
+        client.insertGraphVertices(vertices.stream().map(ArangoDBVertex::data).collect(Collectors.toList()));
+    }
+
+    /**
+     * Insert edges created by {@link ArangoDBVertex#createEdge(String, Vertex, Object...)} with a single AQL query.
+     *
+     * @param edges the edges to insert
+     */
+    public void insertEdges(List<ArangoDBEdge> edges) {
+        client.insertGraphEdges(edges.stream().map(ArangoDBEdge::data).collect(Collectors.toList()));
+    }
+
+    /**
+     * Create a vector index of a vertex property in each vertex collection, used to sort vertices by similarity, see
+     * {@link VectorSimilarity}. The vectors are clustered when the index is created, so the collections should
+     * already hold representative data, at least as many vectors as the number of clusters. Every vertex of the
+     * collections must hold a vector of the given dimension.
+     *
+     * @param key       the property key of the vectors
+     * @param metric    the metric of the similarity
+     * @param dimension the dimension of the vectors
+     * @param nLists    the number of clusters, e.g. about the square root of the number of vectors
+     */
+    public void createVertexVectorIndex(String key, VectorSimilarity.Metric metric, int dimension, int nLists) {
+        client.createVertexVectorIndexes(key, metric, dimension, nLists);
+    }
+
+    /**
+     * Create a vector index of an edge property in each edge collection, see
+     * {@link #createVertexVectorIndex(String, VectorSimilarity.Metric, int, int)}.
+     *
+     * @param key       the property key of the vectors
+     * @param metric    the metric of the similarity
+     * @param dimension the dimension of the vectors
+     * @param nLists    the number of clusters, e.g. about the square root of the number of vectors
+     */
+    public void createEdgeVectorIndex(String key, VectorSimilarity.Metric metric, int dimension, int nLists) {
+        client.createEdgeVectorIndexes(key, metric, dimension, nLists);
+    }
+
     @Override
     public void close() {
         client.shutdown();
@@ -147,7 +264,7 @@ public class ArangoDBGraph implements Graph {
         return client;
     }
 
-    ElementIdFactory getIdFactory() {
+    public ElementIdFactory getIdFactory() {
         return idFactory;
     }
 
@@ -193,6 +310,42 @@ public class ArangoDBGraph implements Graph {
         return traversal;
     }
 
+    /**
+     * Explain the AQL queries that the steps of a traversal would run, with the query optimizer of the server, without
+     * executing them, e.g. to check that {@code g.V().has("name", "marko")} uses an index. Only the queries of the
+     * steps that do not depend on incoming traversers are explained, see {@link AqlStep}.
+     *
+     * @param traversal the traversal, which is not iterated
+     * @return the execution plan of each query, in the order of the steps
+     */
+    public List<AqlExplanation> explainAql(final Traversal<?, ?> traversal) {
+        Traversal.Admin<?, ?> admin = traversal.asAdmin().clone();
+        if (!admin.isLocked()) {
+            admin.applyStrategies();
+        }
+        return TraversalHelper.getStepsOfAssignableClassRecursively(AqlStep.class, admin).stream()
+                .map(AqlStep::getAqlQuery)
+                .filter(Objects::nonNull)
+                .map(client::explain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the edge collections that can contain edges with the given labels.
+     *
+     * @param edgeLabels the edge labels, if empty all edge collections are returned
+     * @return the edge collections
+     */
+    public Set<String> getQueryEdgeCollections(String... edgeLabels) {
+        if (type() == ArangoDBGraphConfig.GraphType.SIMPLE || edgeLabels.length == 0) {
+            return edgeCollections();
+        }
+        return Arrays.stream(edgeLabels)
+                .map(this::getPrefixedCollectionName)
+                .filter(edgeCollections()::contains)
+                .collect(Collectors.toSet());
+    }
+
     String getPrefixedCollectionName(String collectionName) {
         if (collectionName.startsWith(config.graphName + "_")) {
             return collectionName;
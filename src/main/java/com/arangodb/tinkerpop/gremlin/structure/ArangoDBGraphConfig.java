@@ -29,11 +29,32 @@ public class ArangoDBGraphConfig {
     public static final String KEY_GRAPH_TYPE = "graph.type";
     public static final String KEY_GRAPH_ORPHAN_COLLECTIONS = "graph.orphanCollections";
     public static final String KEY_GRAPH_EDGE_DEFINITIONS = "graph.edgeDefinitions";
+    public static final String KEY_GRAPH_TRAVERSAL_BATCH_SIZE = "graph.traversalBatchSize";
+    public static final String KEY_GRAPH_TRAVERSAL_CONCURRENCY = "graph.traversalConcurrency";
+    public static final String KEY_GRAPH_INSERT_BATCH_SIZE = "graph.insertBatchSize";
+    public static final String KEY_GRAPH_VERTEX_SEARCH_PROPERTIES = "graph.vertexSearchProperties";
+    public static final String KEY_GRAPH_EDGE_SEARCH_PROPERTIES = "graph.edgeSearchProperties";
+    public static final String KEY_GRAPH_SEARCH_WAIT_FOR_SYNC = "graph.searchWaitForSync";
+    public static final String KEY_GRAPH_VERTEX_GEO_PROPERTIES = "graph.vertexGeoProperties";
+    public static final String KEY_GRAPH_EDGE_GEO_PROPERTIES = "graph.edgeGeoProperties";
+    public static final String KEY_GRAPH_PROFILE_QUERIES = "graph.profileQueries";
+    public static final String KEY_GRAPH_USE_PLAN_CACHE = "graph.usePlanCache";
+    public static final String KEY_GRAPH_QUERY_STREAM = "graph.queryStream";
+    public static final String KEY_GRAPH_QUERY_BATCH_SIZE = "graph.queryBatchSize";
+    public static final String KEY_GRAPH_QUERY_TTL = "graph.queryTtl";
+    public static final String KEY_GRAPH_QUERY_FILL_BLOCK_CACHE = "graph.queryFillBlockCache";
+    public static final String KEY_GRAPH_QUERY_MEMORY_LIMIT = "graph.queryMemoryLimit";
 
     // default values
     public static final String DEFAULT_DB_NAME = "_system";
     public static final String DEFAULT_GRAPH_NAME = "tinkerpop";
     public static final GraphType DEFAULT_GRAPH_TYPE = GraphType.SIMPLE;
+    public static final int DEFAULT_TRAVERSAL_BATCH_SIZE = 1000;
+    public static final int DEFAULT_TRAVERSAL_CONCURRENCY = 1;
+    public static final int DEFAULT_INSERT_BATCH_SIZE = 1000;
+    public static final boolean DEFAULT_SEARCH_WAIT_FOR_SYNC = false;
+    public static final boolean DEFAULT_PROFILE_QUERIES = false;
+    public static final boolean DEFAULT_USE_PLAN_CACHE = false;
 
     public final Configuration configuration;
     public final String dbName;
@@ -44,6 +65,24 @@ public class ArangoDBGraphConfig {
     public final Set<EdgeDef> edgeDefinitions;
     public final Set<String> vertices;
     public final Set<String> edges;
+    public final int traversalBatchSize;
+    public final int traversalConcurrency;
+    public final int insertBatchSize;
+    public final Set<String> vertexSearchProperties;
+    public final Set<String> edgeSearchProperties;
+    public final String vertexSearchView;
+    public final String edgeSearchView;
+    public final boolean searchWaitForSync;
+    public final Set<String> vertexGeoProperties;
+    public final Set<String> edgeGeoProperties;
+    public final boolean profileQueries;
+    public final boolean usePlanCache;
+    // cursor options of the queries, unset by default to use the ones of the server
+    public final Boolean queryStream;
+    public final Integer queryBatchSize;
+    public final Integer queryTtl;
+    public final Boolean queryFillBlockCache;
+    public final Long queryMemoryLimit;
     public final ArangoConfigProperties driverConfig;
 
     public ArangoDBGraphConfig(Configuration configuration) {
@@ -57,6 +96,23 @@ public class ArangoDBGraphConfig {
         edgeDefinitions = createEdgeDefinitions(conf.getList(String.class, KEY_GRAPH_EDGE_DEFINITIONS, Collections.emptyList()));
         vertices = createVertices();
         edges = edgeDefinitions.stream().map(EdgeDef::getCollection).collect(Collectors.toSet());
+        traversalBatchSize = conf.getInt(KEY_GRAPH_TRAVERSAL_BATCH_SIZE, DEFAULT_TRAVERSAL_BATCH_SIZE);
+        traversalConcurrency = conf.getInt(KEY_GRAPH_TRAVERSAL_CONCURRENCY, DEFAULT_TRAVERSAL_CONCURRENCY);
+        insertBatchSize = conf.getInt(KEY_GRAPH_INSERT_BATCH_SIZE, DEFAULT_INSERT_BATCH_SIZE);
+        vertexSearchProperties = new HashSet<>(conf.getList(String.class, KEY_GRAPH_VERTEX_SEARCH_PROPERTIES, Collections.emptyList()));
+        edgeSearchProperties = new HashSet<>(conf.getList(String.class, KEY_GRAPH_EDGE_SEARCH_PROPERTIES, Collections.emptyList()));
+        vertexSearchView = prefix + "search_vertices";
+        edgeSearchView = prefix + "search_edges";
+        searchWaitForSync = conf.getBoolean(KEY_GRAPH_SEARCH_WAIT_FOR_SYNC, DEFAULT_SEARCH_WAIT_FOR_SYNC);
+        vertexGeoProperties = new HashSet<>(conf.getList(String.class, KEY_GRAPH_VERTEX_GEO_PROPERTIES, Collections.emptyList()));
+        edgeGeoProperties = new HashSet<>(conf.getList(String.class, KEY_GRAPH_EDGE_GEO_PROPERTIES, Collections.emptyList()));
+        profileQueries = conf.getBoolean(KEY_GRAPH_PROFILE_QUERIES, DEFAULT_PROFILE_QUERIES);
+        usePlanCache = conf.getBoolean(KEY_GRAPH_USE_PLAN_CACHE, DEFAULT_USE_PLAN_CACHE);
+        queryStream = conf.getBoolean(KEY_GRAPH_QUERY_STREAM, null);
+        queryBatchSize = conf.getInteger(KEY_GRAPH_QUERY_BATCH_SIZE, null);
+        queryTtl = conf.getInteger(KEY_GRAPH_QUERY_TTL, null);
+        queryFillBlockCache = conf.getBoolean(KEY_GRAPH_QUERY_FILL_BLOCK_CACHE, null);
+        queryMemoryLimit = conf.getLong(KEY_GRAPH_QUERY_MEMORY_LIMIT, null);
         driverConfig = ArangoConfigProperties.fromProperties(ConfigurationConverter.getProperties(conf.subset(KEY_DRIVER_PREFIX)), null);
         validate();
     }
@@ -73,6 +129,28 @@ public class ArangoDBGraphConfig {
                 throw new IllegalArgumentException("Simple graph allows only 1 edge collection");
             }
         }
+        if (traversalBatchSize < 1) {
+            throw new IllegalArgumentException("traversal batch size must be positive: " + traversalBatchSize);
+        }
+        if (traversalConcurrency < 1) {
+            throw new IllegalArgumentException("traversal concurrency must be positive: " + traversalConcurrency);
+        }
+        if (insertBatchSize < 1) {
+            throw new IllegalArgumentException("insert batch size must be positive: " + insertBatchSize);
+        }
+        if (null != queryBatchSize && queryBatchSize < 1) {
+            throw new IllegalArgumentException("query batch size must be positive: " + queryBatchSize);
+        }
+        if (null != queryTtl && queryTtl < 1) {
+            throw new IllegalArgumentException("query ttl must be positive: " + queryTtl);
+        }
+        if (null != queryMemoryLimit && queryMemoryLimit < 0) {
+            throw new IllegalArgumentException("query memory limit must not be negative: " + queryMemoryLimit);
+        }
+        vertexSearchProperties.forEach(this::validateIndexedProperty);
+        edgeSearchProperties.forEach(this::validateIndexedProperty);
+        vertexGeoProperties.forEach(this::validateIndexedProperty);
+        edgeGeoProperties.forEach(this::validateIndexedProperty);
     }
 
     private Set<String> createOrphanCollections(List<String> orphanCollections) {
@@ -155,6 +233,13 @@ public class ArangoDBGraphConfig {
         }
     }
 
+    private void validateIndexedProperty(String name) {
+        validateName(name);
+        if (name.contains(".")) {
+            throw new IllegalArgumentException("indexed property cannot contain '.': " + name);
+        }
+    }
+
     private void validateName(String name) {
         if (name == null) {
             throw new IllegalArgumentException("name cannot be null");
@@ -174,6 +259,21 @@ public class ArangoDBGraphConfig {
                 ", edges=" + edges +
                 ", edgeDefinitions=" + edgeDefinitions +
                 ", orphanCollections=" + orphanCollections +
+                ", traversalBatchSize=" + traversalBatchSize +
+                ", traversalConcurrency=" + traversalConcurrency +
+                ", insertBatchSize=" + insertBatchSize +
+                ", vertexSearchProperties=" + vertexSearchProperties +
+                ", edgeSearchProperties=" + edgeSearchProperties +
+                ", searchWaitForSync=" + searchWaitForSync +
+                ", vertexGeoProperties=" + vertexGeoProperties +
+                ", edgeGeoProperties=" + edgeGeoProperties +
+                ", profileQueries=" + profileQueries +
+                ", usePlanCache=" + usePlanCache +
+                ", queryStream=" + queryStream +
+                ", queryBatchSize=" + queryBatchSize +
+                ", queryTtl=" + queryTtl +
+                ", queryFillBlockCache=" + queryFillBlockCache +
+                ", queryMemoryLimit=" + queryMemoryLimit +
                 ", driverConfig=" + driverConfig +
                 '}';
     }
@@ -22,13 +22,13 @@ package com.arangodb.tinkerpop.gremlin.structure;
 import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
 import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
 import com.arangodb.tinkerpop.gremlin.persistence.VertexPropertyData;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.arangodb.tinkerpop.gremlin.structure.ArangoDBElement.Exceptions.elementAlreadyRemoved;
 
@@ -59,24 +59,42 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
         if (cardinality != VertexProperty.Cardinality.single)
             throw VertexProperty.Exceptions.multiPropertiesNotSupported();
 
-        VertexProperty<?> property = property(key);
-        if (property.isPresent()) {
-            property.remove();
+        // the meta properties are written with the property, by the same update
+        VertexPropertyData prop = new VertexPropertyData(value);
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            if (keyValues[i] instanceof String) {
+                ElementHelper.validateProperty((String) keyValues[i], keyValues[i + 1]);
+                ArangoDBUtil.validatePropertyValue(keyValues[i + 1]);
+                prop.put((String) keyValues[i], keyValues[i + 1]);
+            }
         }
 
-        VertexPropertyData prop = new VertexPropertyData(value);
+        // single cardinality: the new value replaces the previous one with its meta properties
         data.put(key, prop);
         doUpdate();
-
-        ArangoDBVertexProperty<V> vertexProperty = new ArangoDBVertexProperty<>(key, prop, this);
-        ElementHelper.attachProperties(vertexProperty, keyValues);
-        return vertexProperty;
+        return new ArangoDBVertexProperty<>(key, prop, this);
     }
 
     @Override
     public Edge addEdge(String label, Vertex vertex, Object... keyValues) {
+        // the edge is inserted together with all its properties
+        ArangoDBEdge edge = createEdge(label, vertex, keyValues);
+        edge.doInsert();
+        return edge;
+    }
+
+    /**
+     * Create an edge with all its properties, without inserting it, as {@link #addEdge(String, Vertex, Object...)}
+     * does before inserting it.
+     *
+     * @param label     the label of the edge
+     * @param vertex    the in vertex of the edge
+     * @param keyValues the key values of the edge
+     * @return the edge to insert, see {@link ArangoDBGraph#insertEdges(List)}
+     */
+    public ArangoDBEdge createEdge(String label, Vertex vertex, Object... keyValues) {
         if (null == vertex) throw Graph.Exceptions.argumentCanNotBeNull("vertex");
-        if (removed() || ((ArangoDBVertex) vertex).removed()) throw elementAlreadyRemoved(id());
+        if (removed() || vertex instanceof ArangoDBVertex && ((ArangoDBVertex) vertex).removed()) throw elementAlreadyRemoved(id());
 
         ElementHelper.legalPropertyKeyValueArray(keyValues);
         ElementHelper.validateLabel(label);
@@ -87,9 +105,13 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
         if (!graph.edgeCollections().contains(edge.collection())) {
             throw new IllegalArgumentException(String.format("Edge collection (%s) not in graph (%s).", edge.collection(), graph.name()));
         }
-
-        edge.doInsert();
-        ElementHelper.attachProperties(edge, keyValues);
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            if (keyValues[i] instanceof String) {
+                ElementHelper.validateProperty((String) keyValues[i], keyValues[i + 1]);
+                ArangoDBUtil.validatePropertyValue(keyValues[i + 1]);
+                edge.data().put((String) keyValues[i], keyValues[i + 1]);
+            }
+        }
         return edge;
     }
 
@@ -111,7 +133,7 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
 
     @Override
     public Iterator<Edge> edges(Direction direction, String... edgeLabels) {
-        Set<String> edgeCollections = getQueryEdgeCollections(edgeLabels);
+        Set<String> edgeCollections = graph.getQueryEdgeCollections(edgeLabels);
         // If edgeLabels was not empty but all were discarded, this means that we should
         // return an empty iterator, i.e. no edges for that edgeLabels exist.
         if (edgeCollections.isEmpty()) {
@@ -123,7 +145,7 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
 
     @Override
     public Iterator<Vertex> vertices(Direction direction, String... edgeLabels) {
-        Set<String> edgeCollections = getQueryEdgeCollections(edgeLabels);
+        Set<String> edgeCollections = graph.getQueryEdgeCollections(edgeLabels);
         // If edgeLabels was not empty but all were discarded, this means that we should
         // return an empty iterator, i.e. no edges for that edgeLabels exist.
         if (edgeCollections.isEmpty()) {
@@ -163,14 +185,4 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
         data.remove(prop.key());
         doUpdate();
     }
-
-    private Set<String> getQueryEdgeCollections(String... edgeLabels) {
-        if (graph.type() == ArangoDBGraphConfig.GraphType.SIMPLE || edgeLabels.length == 0) {
-            return graph.edgeCollections();
-        }
-        return Arrays.stream(edgeLabels)
-                .map(graph::getPrefixedCollectionName)
-                .filter(graph.edgeCollections()::contains)
-                .collect(Collectors.toSet());
-    }
 }
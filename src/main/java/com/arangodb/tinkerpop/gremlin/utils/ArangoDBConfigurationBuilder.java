@@ -133,6 +133,182 @@ public class ArangoDBConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Set the maximum number of incoming vertices whose adjacent elements are read with a single AQL query, e.g. by
+     * {@code out()}.
+     *
+     * @param size the maximum number of vertices
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder traversalBatchSize(int size) {
+        return setProperty(KEY_GRAPH_TRAVERSAL_BATCH_SIZE, String.valueOf(size));
+    }
+
+    /**
+     * Set the maximum number of batches of incoming vertices whose adjacent elements are read concurrently, with
+     * non-blocking AQL queries, e.g. by {@code out()}.
+     *
+     * @param concurrency the maximum number of queries in flight for each step
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder traversalConcurrency(int concurrency) {
+        return setProperty(KEY_GRAPH_TRAVERSAL_CONCURRENCY, String.valueOf(concurrency));
+    }
+
+    /**
+     * Set the maximum number of elements added with a single AQL query by {@code addV()} and {@code addE()} steps,
+     * e.g. in {@code g.inject(rows).unfold().addV()}.
+     *
+     * @param size the maximum number of elements
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder insertBatchSize(int size) {
+        return setProperty(KEY_GRAPH_INSERT_BATCH_SIZE, String.valueOf(size));
+    }
+
+    /**
+     * Add vertex properties to search by text, e.g. with {@code has("name", TextP.containing("x"))}, through an
+     * ArangoSearch view over inverted indexes of the vertex collections.
+     *
+     * @param properties the property keys
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder vertexSearchProperties(String... properties) {
+        for (String property : properties) {
+            addProperty(KEY_GRAPH_VERTEX_SEARCH_PROPERTIES, property);
+        }
+        return this;
+    }
+
+    /**
+     * Add edge properties to search by text, e.g. with {@code has("name", TextP.containing("x"))}, through an
+     * ArangoSearch view over inverted indexes of the edge collections.
+     *
+     * @param properties the property keys
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder edgeSearchProperties(String... properties) {
+        for (String property : properties) {
+            addProperty(KEY_GRAPH_EDGE_SEARCH_PROPERTIES, property);
+        }
+        return this;
+    }
+
+    /**
+     * Add vertex point properties, i.e. {@code double[]} values of longitude and latitude, to create geo indexes for,
+     * used by geo predicates, e.g. {@code has("location", GeoP.withinDistance(6.96, 50.94, 5000))}.
+     *
+     * @param properties the property keys
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder vertexGeoProperties(String... properties) {
+        for (String property : properties) {
+            addProperty(KEY_GRAPH_VERTEX_GEO_PROPERTIES, property);
+        }
+        return this;
+    }
+
+    /**
+     * Add edge point properties, i.e. {@code double[]} values of longitude and latitude, to create geo indexes for,
+     * used by geo predicates, e.g. {@code has("location", GeoP.withinDistance(6.96, 50.94, 5000))}.
+     *
+     * @param properties the property keys
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder edgeGeoProperties(String... properties) {
+        for (String property : properties) {
+            addProperty(KEY_GRAPH_EDGE_GEO_PROPERTIES, property);
+        }
+        return this;
+    }
+
+    /**
+     * Set whether text searches wait for the ArangoSearch views to include the latest changes, instead of reading
+     * the last commit of the inverted indexes.
+     *
+     * @param waitForSync whether to wait for the latest changes
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder searchWaitForSync(boolean waitForSync) {
+        return setProperty(KEY_GRAPH_SEARCH_WAIT_FOR_SYNC, String.valueOf(waitForSync));
+    }
+
+    /**
+     * Set whether AQL queries run by profiled traversals, e.g. {@code g.V().out().profile()}, are also profiled by the
+     * database, adding the runtime and the number of items of each execution node of the query plan to the metrics of
+     * the steps.
+     *
+     * @param profile whether to profile the queries
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder profileQueries(boolean profile) {
+        return setProperty(KEY_GRAPH_PROFILE_QUERIES, String.valueOf(profile));
+    }
+
+    /**
+     * Set whether AQL queries use the query plan cache of the server, available from ArangoDB 3.12.4. Generated
+     * queries pass all values as bind parameters, so queries of the same shape share their execution plan, e.g. those
+     * of {@code g.V(id).out()} for any vertex.
+     *
+     * @param usePlanCache whether to use the plan cache
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder usePlanCache(boolean usePlanCache) {
+        return setProperty(KEY_GRAPH_USE_PLAN_CACHE, String.valueOf(usePlanCache));
+    }
+
+    /**
+     * Set whether the results of AQL queries are computed lazily while they are fetched, instead of being
+     * materialized on the server before the first batch is returned. If not set, only unbounded scans of the
+     * collections, e.g. by {@code g.V()}, are streamed.
+     *
+     * @param stream whether to stream the results
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryStream(boolean stream) {
+        return setProperty(KEY_GRAPH_QUERY_STREAM, String.valueOf(stream));
+    }
+
+    /**
+     * Set the maximum number of results of AQL queries fetched with a single request.
+     *
+     * @param size the maximum number of results
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryBatchSize(int size) {
+        return setProperty(KEY_GRAPH_QUERY_BATCH_SIZE, String.valueOf(size));
+    }
+
+    /**
+     * Set the time after which the cursors of AQL queries are removed from the server, if not fetched.
+     *
+     * @param seconds the time to live in seconds
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryTtl(int seconds) {
+        return setProperty(KEY_GRAPH_QUERY_TTL, String.valueOf(seconds));
+    }
+
+    /**
+     * Set whether the documents read by AQL queries are added to the in-memory block cache of the server.
+     *
+     * @param fillBlockCache whether to fill the block cache
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryFillBlockCache(boolean fillBlockCache) {
+        return setProperty(KEY_GRAPH_QUERY_FILL_BLOCK_CACHE, String.valueOf(fillBlockCache));
+    }
+
+    /**
+     * Set the maximum memory each AQL query can use on the server.
+     *
+     * @param bytes the memory limit in bytes, {@code 0} for no limit
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryMemoryLimit(long bytes) {
+        return setProperty(KEY_GRAPH_QUERY_MEMORY_LIMIT, String.valueOf(bytes));
+    }
+
     /**
      * Add hosts.
      *
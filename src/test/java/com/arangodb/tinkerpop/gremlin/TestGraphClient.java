@@ -31,6 +31,12 @@ public class TestGraphClient extends ArangoDBGraphClient {
             ) throw e;
         }
 
+        for (String view : new String[]{name + "_search_vertices", name + "_search_edges"}) {
+            if (db.view(view).exists()) {
+                db.view(view).drop();
+            }
+        }
+
         try {
             db.graph(name).drop(true);
         } catch (ArangoDBException e) {
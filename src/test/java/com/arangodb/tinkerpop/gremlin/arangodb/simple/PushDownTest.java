@@ -0,0 +1,740 @@
+package com.arangodb.tinkerpop.gremlin.arangodb.simple;
+
+import com.arangodb.ArangoDatabase;
+import com.arangodb.model.PersistentIndexOptions;
+import com.arangodb.tinkerpop.gremlin.TestGraphClient;
+import com.arangodb.tinkerpop.gremlin.client.AqlExplanation;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBGraphClient;
+import com.arangodb.tinkerpop.gremlin.client.CursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.ArangoDBCursorOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.GeoDistance;
+import com.arangodb.tinkerpop.gremlin.process.traversal.GeoP;
+import com.arangodb.tinkerpop.gremlin.process.traversal.VectorSimilarity;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.filter.ArangoDBGraphDropStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBAddEdgeStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBAddVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBEdgeVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBGraphCountStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBGraphGroupStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBMergeEdgeStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBMergeVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBRepeatStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBShortestPath;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBShortestPathStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.map.ArangoDBVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphAddPropertyStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.sideEffect.ArangoDBGraphStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ShortestPath;
+import org.apache.tinkerpop.gremlin.process.traversal.Merge;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class PushDownTest extends AbstractGremlinTest {
+
+    private static List<Step<?, ?>> steps(Traversal<?, ?> traversal) {
+        Traversal.Admin<?, ?> admin = traversal.asAdmin();
+        admin.applyStrategies();
+        List<Step<?, ?>> steps = new ArrayList<>();
+        for (Step<?, ?> step : admin.getSteps()) {
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFoldHasStepsIntoGraphStep() {
+        List<Step<?, ?>> steps = steps(g.V().has("name", "marko").hasLabel("person"));
+        assertThat(steps).hasSize(1);
+        assertThat(steps.get(0)).isInstanceOf(ArangoDBGraphStep.class);
+        assertThat(((ArangoDBGraphStep<?, ?>) steps.get(0)).getHasContainers()).hasSize(2);
+        assertThat(steps).noneMatch(HasStep.class::isInstance);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFilterVertices() {
+        assertThat(g.V().has("name", "marko").values("age").toList()).containsExactly(29);
+        assertThat(g.V().has("age", P.gt(30)).values("name").toList()).containsExactlyInAnyOrder("josh", "peter");
+        assertThat(g.V().has("age", P.between(27, 30)).values("name").toList()).containsExactlyInAnyOrder("marko", "vadas");
+        assertThat(g.V().has("name", P.within("lop", "ripple")).values("lang").toList()).containsExactly("java", "java");
+        assertThat(g.V().hasLabel("software").count().next()).isEqualTo(2L);
+        assertThat(g.V().has("age", P.neq(29)).count().next()).isEqualTo(3L);
+        assertThat(g.V().has("name", P.without("marko", "vadas")).count().next()).isEqualTo(4L);
+        assertThat(g.V().has("age", P.gt(30).or(P.lt(28))).values("name").toList()).containsExactlyInAnyOrder("vadas", "josh", "peter");
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldSearchTextWithView() {
+        List<Step<?, ?>> steps = steps(g.V().has("name", TextP.containing("ar")).has("lang", TextP.notEndingWith("a")));
+        assertThat(steps).hasSize(1);
+        assertThat(steps.get(0)).isInstanceOf(ArangoDBGraphStep.class);
+
+        assertThat(g.V().has("name", TextP.containing("p")).values("name").toList()).containsExactlyInAnyOrder("lop", "ripple", "peter");
+        assertThat(g.V().has("name", TextP.startingWith("r")).values("name").toList()).containsExactly("ripple");
+        assertThat(g.V().has("name", TextP.endingWith("s")).values("name").toList()).containsExactly("vadas");
+        assertThat(g.V().has("name", TextP.notContaining("a")).count().next()).isEqualTo(4L);
+        assertThat(g.V().has("name", TextP.containing("a")).has("age", P.gt(28)).values("name").toList()).containsExactly("marko");
+        assertThat(g.V().has("lang", TextP.startingWith("ja")).count().next()).isEqualTo(2L);
+        assertThat(g.V().has("name", TextP.containing("a").or(TextP.startingWith("l"))).count().next()).isEqualTo(3L);
+
+        g.addV("item").property("name", "50%_off").iterate();
+        assertThat(g.V().has("name", TextP.containing("%_")).values("name").toList()).containsExactly("50%_off");
+        assertThat(g.V().has("name", TextP.endingWith("_off")).count().next()).isEqualTo(1L);
+        assertThat(g.V().has("name", TextP.containing("_")).count().next()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldMutateSearchedElementsWithoutWaitingForTheView() {
+        g.addV("item").property("name", "phone").property("price", 1)
+                .addV("item").property("name", "phone case").property("price", 2)
+                .addV("item").property("name", "table").property("price", 3)
+                .iterate();
+        // the view has not committed the new documents yet, mutations filter the collections
+        g.V().has("name", TextP.startingWith("phone")).property("price", 10).iterate();
+        assertThat(g.V().has("price", 10).count().next()).isEqualTo(2L);
+        g.V().has("name", TextP.containing("case")).drop().iterate();
+        assertThat(g.V().hasLabel("item").values("name").toList()).containsExactlyInAnyOrder("phone", "table");
+    }
+
+    @Test
+    public void shouldFilterByGeoPredicates() {
+        g.addV("city").property("name", "cologne").property("location", new double[]{6.96, 50.94})
+                .addV("city").property("name", "bonn").property("location", new double[]{7.10, 50.73})
+                .addV("city").property("name", "duesseldorf").property("location", new double[]{6.77, 51.23})
+                .addV("city").property("name", "berlin").property("location", new double[]{13.40, 52.52})
+                .addV("city").property("name", "unknown").property("location", "nowhere")
+                .addV("city").property("name", "none")
+                .iterate();
+
+        List<Step<?, ?>> steps = steps(g.V().has("location", GeoP.withinDistance(6.96, 50.94, 30000))
+                .order().by("location", GeoDistance.from(6.96, 50.94)).limit(2));
+        assertThat(steps).hasSize(1);
+        assertThat(steps.get(0)).isInstanceOf(ArangoDBGraphStep.class);
+
+        assertThat(g.V().has("location", GeoP.withinDistance(6.96, 50.94, 30000)).values("name").toList())
+                .containsExactlyInAnyOrder("cologne", "bonn");
+        assertThat(g.V().has("location", GeoP.inside(new double[]{6, 50}, new double[]{8, 50}, new double[]{8, 51}, new double[]{6, 51}))
+                .values("name").toList()).containsExactlyInAnyOrder("cologne", "bonn");
+        assertThat(g.V().has("location", GeoP.withinDistance(13, 52, 100000)).has("name", P.neq("x")).count().next()).isEqualTo(1L);
+        assertThat(g.V().hasLabel("city").has("location", GeoP.withinDistance(7.10, 50.73, 1000000))
+                .order().by("location", GeoDistance.from(7.10, 50.73)).limit(3).values("name").toList())
+                .containsExactly("bonn", "cologne", "duesseldorf");
+        assertThat(g.V().out().has("location", GeoP.withinDistance(6.96, 50.94, 30000)).count().next()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldSortBySimilarity() {
+        g.addV("doc").property("name", "a").property("embedding", new double[]{1, 0}).as("a")
+                .addV("doc").property("name", "b").property("embedding", new double[]{0.9, 0.1})
+                .addV("doc").property("name", "c").property("embedding", new double[]{0, 1}).as("c")
+                .addV("doc").property("name", "d").property("embedding", new double[]{1, 0, 0})
+                .addV("doc").property("name", "e")
+                .addE("cites").from("a").to("c")
+                .iterate();
+
+        List<Step<?, ?>> steps = steps(g.V().hasLabel("doc").order().by("embedding", VectorSimilarity.cosine(1, 0)).limit(2).out("cites"));
+        assertThat(steps.get(0)).isInstanceOf(ArangoDBGraphStep.class);
+        assertThat(steps).hasSize(2);
+
+        assertThat(g.V().hasLabel("doc").order().by("embedding", VectorSimilarity.cosine(1, 0)).values("name").toList())
+                .containsExactly("a", "b", "c", "d");
+        assertThat(g.V().hasLabel("doc").order().by("embedding", VectorSimilarity.l2(0, 1)).values("name").toList())
+                .containsExactly("c", "b", "a", "d");
+        assertThat(g.V().hasLabel("doc").fold().unfold().order().by("embedding", VectorSimilarity.cosine(1, 0)).values("name").toList())
+                .containsExactly("a", "b", "c", "d");
+        assertThat(g.V().hasLabel("doc").fold().unfold().order().by("embedding", VectorSimilarity.l2(0, 1)).limit(1).out("cites").count().next())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldSortBySimilarityWithVectorIndex() {
+        g.addV("doc").property("name", "a").property("embedding", new double[]{1, 0})
+                .addV("doc").property("name", "b").property("embedding", new double[]{0.9, 0.1})
+                .addV("doc").property("name", "c").property("embedding", new double[]{0, 1})
+                .addV("other").property("name", "d").property("embedding", new double[]{0.95, 0.05})
+                .iterate();
+        ArangoDBGraph arangoGraph = (ArangoDBGraph) graph;
+        assertThat(arangoGraph.explainAql(g.V().order().by("embedding", VectorSimilarity.cosine(1, 0)).limit(2)).get(0)
+                .getQuery().getQuery()).doesNotContain("APPROX_NEAR");
+
+        arangoGraph.createVertexVectorIndex("embedding", VectorSimilarity.Metric.COSINE, 2, 1);
+        assertThat(arangoGraph.explainAql(g.V().order().by("embedding", VectorSimilarity.cosine(1, 0)).limit(2)).get(0)
+                .getQuery().getQuery()).contains("APPROX_NEAR_COSINE");
+        assertThat(g.V().order().by("embedding", VectorSimilarity.cosine(1, 0)).limit(2).values("name").toList())
+                .containsExactly("a", "d");
+        // the index has another metric
+        assertThat(arangoGraph.explainAql(g.V().order().by("embedding", VectorSimilarity.l2(1, 0)).limit(2)).get(0)
+                .getQuery().getQuery()).doesNotContain("APPROX_NEAR");
+        // filters would be evaluated on the nearest documents only
+        assertThat(arangoGraph.explainAql(g.V().hasLabel("doc").order().by("embedding", VectorSimilarity.cosine(1, 0)).limit(2)).get(0)
+                .getQuery().getQuery()).doesNotContain("APPROX_NEAR");
+        assertThat(g.V().hasLabel("doc").order().by("embedding", VectorSimilarity.cosine(1, 0)).limit(2).values("name").toList())
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFilterEdges() {
+        assertThat(g.E().has("weight", P.gte(1.0)).count().next()).isEqualTo(2L);
+        assertThat(g.E().hasLabel("created").has("weight", P.lt(0.5)).count().next()).isEqualTo(3L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldNotMatchValuesOfOtherTypes() {
+        graph.addVertex("name", "foo", "age", "old");
+        assertThat(g.V().has("age", P.gt(30)).count().next()).isEqualTo(2L);
+        assertThat(g.V().has("age", P.lt("z")).values("name").toList()).containsExactly("foo");
+    }
+
+    @Test
+    public void shouldCompareStringsByCodePoints() {
+        g.addV().property("name", "B").addV().property("name", "a").addV().property("name", "\u00e4").iterate();
+        // ICU collation would order B after both lowercase letters
+        assertThat(g.V().has("name", P.lt("a")).values("name").toList()).containsExactly("B");
+        assertThat(g.V().has("name", P.gt("a")).values("name").toList()).containsExactly("\u00e4");
+        assertThat(g.V().has("name", P.between("B", "b")).values("name").toList()).containsExactlyInAnyOrder("B", "a");
+        assertThat(g.V().has("name", "a").values("name").toList()).containsExactly("a");
+    }
+
+    @Test
+    public void shouldSortStringsByCodePoints() {
+        g.addV().property("name", "a").addV().property("name", "B").addV().property("name", "c").iterate();
+        // ICU collation would order B between a and c
+        assertThat(g.V().order().by("name").values("name").toList()).containsExactly("B", "a", "c");
+        assertThat(g.V().order().by("name").limit(1).values("name").toList()).containsExactly("B");
+        assertThat(g.V().order().by("name", Order.desc).tail(1).values("name").toList()).containsExactly("B");
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFilterByIds() {
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(g.V().hasId(marko).values("name").toList()).containsExactly("marko");
+        assertThat(g.V(marko).has("age", P.gt(30)).toList()).isEmpty();
+        assertThat(g.V().hasId(P.within()).toList()).isEmpty();
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFuseVertexSteps() {
+        List<Step<?, ?>> steps = steps(g.V().out().in("created").out());
+        assertThat(steps).hasSize(2);
+        assertThat(steps.get(1)).isInstanceOf(ArangoDBVertexStep.class);
+        assertThat(((ArangoDBVertexStep<?>) steps.get(1)).getDirections()).hasSize(3);
+        assertThat(steps(g.V().out().as("a").out())).filteredOn(ArangoDBVertexStep.class::isInstance).hasSize(2);
+        assertThat(steps(g.V().out().out().path())).filteredOn(ArangoDBVertexStep.class::isInstance).hasSize(2);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldTraverseBatchesOfVertices() {
+        assertThat(steps(g.V().out())).element(1).isInstanceOf(ArangoDBVertexStep.class);
+        assertThat(g.V().out().values("name").toList()).containsExactlyInAnyOrder("lop", "vadas", "josh", "ripple", "lop", "lop");
+        assertThat(g.V().both().both().toList()).hasSize(30);
+        assertThat(g.V().hasLabel("person").outE("created").inV().in("created").dedup().count().next()).isEqualTo(3L);
+        assertThat(g.V().out().as("a").out().select("a").values("name").toList()).containsExactly("josh", "josh");
+        assertThat(g.V().has("name", "marko").out().out().path().by("name").toList()).hasSize(2);
+        assertThat(g.V().has("name", "marko").out().limit(1).toList()).hasSize(1);
+        assertThat(g.V().outE().count().next()).isEqualTo(6L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldTraverseFusedVertexSteps() {
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(g.V(marko).out().out().values("name").toList()).containsExactlyInAnyOrder("ripple", "lop");
+        assertThat(g.V(marko).out("knows").out("created").values("name").toList()).containsExactlyInAnyOrder("ripple", "lop");
+        assertThat(g.V(marko).out("created").in("created").values("name").toList()).containsExactlyInAnyOrder("marko", "josh", "peter");
+        assertThat(g.V(marko).out("knows").out("knows").toList()).isEmpty();
+        assertThat(g.V(marko).both().both().count().next()).isEqualTo(7L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldReadBatchesOfEdgeVertices() {
+        assertThat(steps(g.E().inV())).element(1).isInstanceOf(ArangoDBEdgeVertexStep.class);
+        assertThat(g.E().inV().values("name").toList()).containsExactlyInAnyOrder("lop", "vadas", "josh", "ripple", "lop", "lop");
+        assertThat(g.E().hasLabel("knows").outV().values("name").toList()).containsExactly("marko", "marko");
+        assertThat(g.E().bothV().toList()).hasSize(12);
+        assertThat(g.V().has("name", "josh").bothE().otherV().values("name").toList()).containsExactlyInAnyOrder("marko", "ripple", "lop");
+        assertThat(g.V().has("name", "marko").outE().as("e").inV().select("e").count().next()).isEqualTo(3L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFuseFilteredEdgeSteps() {
+        List<Step<?, ?>> steps = steps(g.V().outE("created").has("weight", P.gt(0.5)).inV());
+        assertThat(steps).hasSize(2);
+        assertThat(steps.get(1)).isInstanceOfSatisfying(ArangoDBVertexStep.class,
+                it -> assertThat(((ArangoDBVertexStep<?>) it).returnsVertex()).isTrue());
+        assertThat(steps(g.V().outE().as("e").has("weight", P.gt(0.5)).inV())).anyMatch(ArangoDBEdgeVertexStep.class::isInstance);
+        assertThat(g.V().outE("created").has("weight", P.gt(0.5)).inV().values("name").toList()).containsExactly("ripple");
+        assertThat(g.V().outE().has("weight", P.gte(0.5)).inV().values("name").toList()).containsExactlyInAnyOrder("vadas", "josh", "ripple");
+        assertThat(g.V().has("name", "lop").inE().has("weight", P.lt(0.5)).outV().values("name").toList()).containsExactlyInAnyOrder("marko", "josh", "peter");
+        assertThat(g.V().has("name", "marko").outE("knows").has("weight", 1.0).inV().out().values("name").toList()).containsExactlyInAnyOrder("ripple", "lop");
+        assertThat(g.V().outE().has("weight", P.gt(0.5)).inV().count().next()).isEqualTo(2L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldCountOnServer() {
+        assertThat(steps(g.V().hasLabel("person").count())).singleElement().isInstanceOf(ArangoDBGraphCountStep.class);
+        assertThat(steps(g.V().out().count())).element(1).isInstanceOfSatisfying(ArangoDBVertexStep.class,
+                it -> assertThat(((ArangoDBVertexStep<?>) it).isCountOnly()).isTrue());
+        assertThat(g.V().count().next()).isEqualTo(6L);
+        assertThat(g.E().count().next()).isEqualTo(6L);
+        assertThat(g.V().hasLabel("person").count().next()).isEqualTo(4L);
+        assertThat(g.E().has("weight", P.gt(0.5)).count().next()).isEqualTo(2L);
+        assertThat(g.V().hasLabel("foo").count().next()).isEqualTo(0L);
+        assertThat(g.V().out().count().next()).isEqualTo(6L);
+        assertThat(g.V().outE("created").count().next()).isEqualTo(4L);
+        assertThat(g.V().both().both().count().next()).isEqualTo(30L);
+        assertThat(g.V().has("name", "marko").out("knows").count().next()).isEqualTo(2L);
+        assertThat(g.V().has("name", "vadas").out().count().next()).isEqualTo(0L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFoldRangeIntoGraphStep() {
+        List<Step<?, ?>> steps = steps(g.V().hasLabel("person").range(1, 3));
+        assertThat(steps).singleElement().isInstanceOfSatisfying(ArangoDBGraphStep.class,
+                it -> assertThat(((ArangoDBGraphStep<?, ?>) it).hasRange()).isTrue());
+        assertThat(g.V().hasLabel("person").limit(2).toList()).hasSize(2);
+        assertThat(g.V().hasLabel("person").range(1, 3).toList()).hasSize(2);
+        assertThat(g.V().hasLabel("person").skip(3).toList()).hasSize(1);
+        assertThat(g.V().range(5, 10).toList()).hasSize(1);
+        assertThat(g.E().limit(0).toList()).isEmpty();
+        assertThat(g.V().hasLabel("person").limit(2).count().next()).isEqualTo(2L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFoldTailIntoGraphStep() {
+        // the limit is read reflectively from TailGlobalStep, which does not expose it
+        assertThat(steps(g.V().has("age", P.gt(0)).order().by("age").tail(2))).singleElement()
+                .extracting(Object::toString).asString().contains("tail(2)");
+        assertThat(g.V().has("age", P.gt(0)).order().by("age").tail(2).values("name").toList()).containsExactly("josh", "peter");
+        assertThat(g.V().has("age", P.gt(0)).order().by("age", Order.desc).tail(1).values("name").toList()).containsExactly("vadas");
+        assertThat(g.V().order().by(T.label).by("name", Order.desc).tail(3).values("name").toList()).containsExactly("josh", "ripple", "lop");
+        assertThat(g.V().hasLabel("person").order().by("age").tail(10).count().next()).isEqualTo(4L);
+        // without an order the last elements are not defined by AQL
+        assertThat(steps(g.V().tail(2))).hasSize(2);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldLimitVertexSteps() {
+        List<Step<?, ?>> steps = steps(g.V().out().limit(2));
+        assertThat(steps.get(1)).isInstanceOfSatisfying(ArangoDBVertexStep.class,
+                it -> assertThat(((ArangoDBVertexStep<?>) it).getLimit()).isEqualTo(2L));
+        assertThat(steps).anyMatch(RangeGlobalStep.class::isInstance);
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(g.V(marko).out().limit(2).toList()).hasSize(2);
+        assertThat(g.V(marko).outE().range(1, 2).toList()).hasSize(1);
+        assertThat(g.V().out().out().limit(1).values("name").toList()).hasSize(1);
+        assertThat(g.V().in().limit(3).toList()).hasSize(3);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldFoldOrderIntoGraphStep() {
+        assertThat(steps(g.V().has("age", P.between(0, 100)).order().by("age", Order.desc).limit(2))).singleElement()
+                .isInstanceOfSatisfying(ArangoDBGraphStep.class, it -> assertThat(((ArangoDBGraphStep<?, ?>) it).isSorted()).isTrue());
+        assertThat(g.V().has("age", P.between(0, 100)).order().by("age", Order.desc).limit(2).values("name").toList())
+                .containsExactly("peter", "josh");
+        // strings are sorted by Gremlin
+        assertThat(steps(g.V().hasLabel("person").order().by("age").limit(2))).hasSize(3);
+        assertThat(steps(g.V().order().by(T.label).limit(2))).hasSize(3);
+        assertThat(g.V().order().by("age").values("name").toList()).containsExactly("vadas", "marko", "josh", "peter");
+        assertThat(g.V().order().by(T.label).by("name", Order.desc).values("name").toList())
+                .containsExactly("vadas", "peter", "marko", "josh", "ripple", "lop");
+        assertThat(g.E().order().by("weight").limit(1).values("weight").toList()).containsExactly(0.2);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldProjectProperties() {
+        assertThat(steps(g.V().values("name")).get(0).toString()).contains("projection[name]");
+        assertThat(steps(g.V().out().id()).get(1)).isInstanceOf(ArangoDBVertexStep.class);
+        assertThat(steps(g.V().as("a").values("name")).get(0).toString()).doesNotContain("projection");
+        assertThat(g.V().hasLabel("person").values("name").toList()).containsExactlyInAnyOrder("marko", "vadas", "josh", "peter");
+        assertThat(g.V().has("name", "marko").valueMap("name").next()).containsOnlyKeys("name");
+        assertThat(g.V().has("name", "marko").elementMap("age").next()).containsOnlyKeys(T.id, T.label, "age");
+        assertThat(g.V().has("name", "marko").outE("knows").values("weight").toList()).containsExactlyInAnyOrder(0.5, 1.0);
+        assertThat(g.V().has("name", "marko").out("created").label().toList()).containsExactly("software");
+        assertThat(g.E().hasLabel("created").elementMap("weight").toList()).hasSize(4);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldGroupOnServer() {
+        assertThat(steps(g.V().groupCount().by(T.label))).singleElement().isInstanceOf(ArangoDBGraphGroupStep.class);
+        assertThat(g.V().groupCount().by(T.label).next()).containsOnly(entry("person", 4L), entry("software", 2L));
+        assertThat(g.V().groupCount().by("lang").next()).containsOnly(entry("java", 2L));
+        assertThat(g.V().group().by(T.label).by(__.count()).next()).containsOnly(entry("person", 4L), entry("software", 2L));
+        assertThat(g.V().group().by(T.label).by(__.values("age").sum()).next()).containsOnly(entry("person", 123L));
+        assertThat(g.E().group().by(T.label).by(__.values("weight").fold()).next()).hasSize(2);
+        assertThat(g.V().hasLabel("foo").groupCount().by("name").next()).isEmpty();
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldTraverseRepeatOnServer() {
+        assertThat(steps(g.V().repeat(__.out()).until(__.has("name", "ripple").or().loops().is(5)))).element(1).isInstanceOf(ArangoDBRepeatStep.class);
+        assertThat(steps(g.V().repeat(__.out()).until(__.has("name", "ripple")))).noneMatch(ArangoDBRepeatStep.class::isInstance);
+        assertThat(steps(g.V().repeat(__.out()).until(__.has("name", "ripple").or().loops().is(0)))).noneMatch(ArangoDBRepeatStep.class::isInstance);
+        assertThat(steps(g.V().repeat(__.out()).emit().times(2).path())).noneMatch(ArangoDBRepeatStep.class::isInstance);
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(g.V(marko).repeat(__.out()).emit().times(2).values("name").toList())
+                .containsExactlyInAnyOrder("vadas", "josh", "lop", "ripple", "lop");
+        assertThat(g.V(marko).emit().repeat(__.out("knows")).times(1).values("name").toList())
+                .containsExactlyInAnyOrder("marko", "vadas", "josh");
+        assertThat(g.V(marko).repeat(__.out()).until(__.has("name", "ripple")).values("name").toList()).containsExactly("ripple");
+        assertThat(g.V(marko).repeat(__.out()).until(__.hasLabel("software")).values("name").toList())
+                .containsExactlyInAnyOrder("lop", "ripple", "lop");
+        assertThat(g.V(marko).until(__.has("name", "marko")).repeat(__.out()).values("name").toList()).containsExactly("marko");
+        assertThat(g.V().has("name", "ripple").repeat(__.in()).until(__.has("age", P.gt(30))).values("name").toList())
+                .containsExactly("josh");
+        // the loop also stops at the maximum number of iterations
+        assertThat(g.V(marko).repeat(__.out()).until(__.has("name", "ripple").or().loops().is(1)).values("name").toList())
+                .containsExactlyInAnyOrder("vadas", "josh", "lop");
+        assertThat(g.V(marko).repeat(__.out()).until(__.or(__.loops().is(P.gte(2)), __.has("name", "ripple"))).values("name").toList())
+                .containsExactlyInAnyOrder("ripple", "lop");
+        assertThat(g.V(marko).until(__.has("name", "josh").or().loops().is(0)).repeat(__.out()).values("name").toList())
+                .containsExactly("marko");
+        assertThat(g.V(marko).repeat(__.out()).emit().until(__.has("name", "josh").or().loops().is(2)).values("name").toList())
+                .containsExactlyInAnyOrder("vadas", "josh", "lop");
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldSearchShortestPathsOnServer() {
+        Object marko = g.V().has("name", "marko").id().next();
+        Object ripple = g.V().has("name", "ripple").id().next();
+        assertThat(steps(g.V(marko).shortestPath().with(ShortestPath.target, __.hasId(ripple))))
+                .anyMatch(ArangoDBShortestPathStep.class::isInstance);
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.target, __.hasId(ripple))
+                .map(__.unfold().values("name").fold()).toList())
+                .containsExactly(Arrays.asList("marko", "josh", "ripple"));
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.target, __.hasId(ripple)).with(ShortestPath.includeEdges, true)
+                .next().size()).isEqualTo(5);
+        assertThat(steps(g.V(marko).shortestPath().with(ShortestPath.target, __.hasId(ripple)).with(ShortestPath.distance, "weight")))
+                .noneMatch(ArangoDBShortestPathStep.class::isInstance);
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.target, __.hasId(ripple)).with(ShortestPath.distance, "weight")
+                .with(ArangoDBShortestPath.maxDepth, 3).map(__.unfold().values("name").fold()).toList())
+                .containsExactly(Arrays.asList("marko", "lop", "josh", "ripple"));
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.target, __.hasId(ripple)).with(ArangoDBShortestPath.k, 2).toList())
+                .hasSize(2);
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.edges, Direction.OUT).with(ShortestPath.target, __.hasLabel("software"))
+                .map(__.unfold().values("name").fold()).toList())
+                .containsExactlyInAnyOrder(Arrays.asList("marko", "lop"), Arrays.asList("marko", "josh", "ripple"));
+        assertThat(steps(g.V(marko).shortestPath().with(ShortestPath.edges, __.outE("knows")).with(ShortestPath.target, __.hasId(ripple))))
+                .noneMatch(ArangoDBShortestPathStep.class::isInstance);
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.edges, __.outE("knows")).with(ShortestPath.target, __.hasId(ripple))
+                .with(ShortestPath.maxDistance, 3).toList())
+                .isEmpty();
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldLimitShortestPathsOfEachTarget() {
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.edges, Direction.OUT).with(ShortestPath.target, __.hasLabel("software"))
+                .with(ArangoDBShortestPath.k, 2).map(__.unfold().values("name").fold()).toList())
+                .containsExactlyInAnyOrder(Arrays.asList("marko", "lop"), Arrays.asList("marko", "josh", "lop"),
+                        Arrays.asList("marko", "josh", "ripple"));
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.edges, Direction.OUT).with(ShortestPath.target, __.hasLabel("software"))
+                .with(ArangoDBShortestPath.single, true).map(__.unfold().values("name").fold()).toList())
+                .containsExactlyInAnyOrder(Arrays.asList("marko", "lop"), Arrays.asList("marko", "josh", "ripple"));
+        // enumerated on the server, as labels cannot be filtered by path searches in SIMPLE graphs
+        assertThat(g.V(marko).shortestPath().with(ShortestPath.edges, __.outE("knows", "created")).with(ShortestPath.target, __.hasLabel("software"))
+                .with(ShortestPath.maxDistance, 3).with(ArangoDBShortestPath.k, 2).map(__.unfold().values("name").fold()).toList())
+                .containsExactlyInAnyOrder(Arrays.asList("marko", "lop"), Arrays.asList("marko", "josh", "lop"),
+                        Arrays.asList("marko", "josh", "ripple"));
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldReadShortestPathOptionsOfTheReplacedStep() {
+        // read reflectively from ShortestPathVertexProgramStep, which does not expose them
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(steps(g.V(marko).shortestPath().with(ShortestPath.maxDistance, 2).with(ShortestPath.includeEdges, true)))
+                .filteredOn(ArangoDBShortestPathStep.class::isInstance)
+                .singleElement()
+                .extracting(Object::toString)
+                .asString()
+                .contains("maxDistance(2)", "includeEdges");
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldDropOnServer() {
+        assertThat(steps(g.V().has("name", "marko").drop())).singleElement().isInstanceOf(ArangoDBGraphDropStep.class);
+        assertThat(steps(g.V().out().drop())).noneMatch(ArangoDBGraphDropStep.class::isInstance);
+        g.V().has("name", "marko").drop().iterate();
+        assertThat(g.V().count().next()).isEqualTo(5L);
+        assertThat(g.E().count().next()).isEqualTo(3L);
+        g.E().hasLabel("knows").drop().iterate();
+        assertThat(g.E().count().next()).isEqualTo(3L);
+        g.E().has("weight", P.lt(0.5)).drop().iterate();
+        assertThat(g.E().values("weight").toList()).containsExactly(1.0);
+        g.V().drop().iterate();
+        assertThat(g.V().count().next()).isZero();
+        assertThat(g.E().count().next()).isZero();
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldSetPropertiesOnServer() {
+        assertThat(steps(g.V().hasLabel("person").property("status", "inactive"))).singleElement()
+                .isInstanceOf(ArangoDBGraphAddPropertyStep.class);
+        assertThat(steps(g.V().out().property("status", "inactive"))).noneMatch(ArangoDBGraphAddPropertyStep.class::isInstance);
+        g.V().hasLabel("person").property("status", "inactive").property("age", 0, "since", 2020).iterate();
+        assertThat(g.V().has("status", "inactive").values("name").toList())
+                .containsExactlyInAnyOrder("marko", "vadas", "josh", "peter");
+        assertThat(g.V().has("name", "marko").properties("age").values("since").toList()).containsExactly(2020);
+        assertThat(g.V().has("name", "lop").values("lang", "status").toList()).containsExactly("java");
+        assertThat(g.V().has("name", "josh").property("age", 33).values("age").toList()).containsExactly(33);
+        assertThat(g.V().has("name", "josh").properties("age").properties().toList()).isEmpty();
+        g.E().hasLabel("knows").property("weight", 0.1).iterate();
+        assertThat(g.E().has("weight", 0.1).count().next()).isEqualTo(2L);
+        assertThat(g.E().hasLabel("knows").values("weight").toList()).containsExactly(0.1, 0.1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldInsertBatchesOfElements() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("name", "item" + i);
+            row.put("rank", i);
+            rows.add(row);
+        }
+        assertThat(steps(g.inject(rows).unfold().addV("person").property("name", __.select("name"))))
+                .last().isInstanceOf(ArangoDBAddVertexStep.class);
+        List<Vertex> vertices = g.inject(rows).unfold().as("row")
+                .addV("person").property("name", __.select("row").select("name")).property("rank", __.select("row").select("rank"))
+                .toList();
+        assertThat(vertices).extracting(it -> it.value("name")).containsExactly(rows.stream().map(it -> it.get("name")).toArray());
+        assertThat(g.V().has("rank", P.gte(5)).values("name").toList()).containsExactlyInAnyOrder("item5", "item6", "item7", "item8", "item9");
+        assertThat(g.V(vertices.get(0).id()).values("rank").toList()).containsExactly(0);
+
+        Object marko = g.V().has("name", "marko").id().next();
+        assertThat(steps(g.V().addE("knows").to(__.V(marko)))).last().isInstanceOf(ArangoDBAddEdgeStep.class);
+        List<Edge> edges = g.V().has("rank").as("v").V(marko).addE("knows").to("v").property("weight", 0.1).toList();
+        assertThat(edges).hasSize(10);
+        assertThat(g.V(marko).outE("knows").has("weight", 0.1).inV().values("name").toList())
+                .containsExactlyInAnyOrder(rows.stream().map(it -> it.get("name")).toArray());
+        assertThat(g.E(edges.get(0).id()).outV().id().next()).isEqualTo(marko);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldMergeBatchesOfElements() {
+        // UPSERT is only used for searches covered by unique indexes
+        ArangoDatabase db = new TestGraphClient(graph.configuration()).database();
+        String graphName = ((ArangoDBGraph) graph).name();
+        db.collection(graphName + "_" + Vertex.DEFAULT_LABEL)
+                .ensurePersistentIndex(Arrays.asList("label", "properties.name.value"), new PersistentIndexOptions().unique(true));
+        db.collection(graphName + "_" + Edge.DEFAULT_LABEL)
+                .ensurePersistentIndex(Arrays.asList("label", "_from", "_to"), new PersistentIndexOptions().unique(true));
+        List<Map<Object, Object>> rows = new ArrayList<>();
+        for (String name : Arrays.asList("marko", "new0", "new1", "new0")) {
+            Map<Object, Object> row = new HashMap<>();
+            row.put(T.label, "person");
+            row.put("name", name);
+            rows.add(row);
+        }
+        Map<Object, Object> onMatch = new HashMap<>();
+        onMatch.put("seen", true);
+        assertThat(steps(g.inject(rows).unfold().mergeV())).last().isInstanceOf(ArangoDBMergeVertexStep.class);
+        List<Vertex> vertices = g.inject(rows).unfold().mergeV().option(Merge.onMatch, onMatch).toList();
+        assertThat(vertices).extracting(it -> it.value("name")).containsExactly("marko", "new0", "new1", "new0");
+        assertThat(vertices.get(3).id()).isEqualTo(vertices.get(1).id());
+        assertThat(g.V().has("seen", true).values("name").toList()).containsExactlyInAnyOrder("marko", "new0");
+        assertThat(g.V().hasLabel("person").count().next()).isEqualTo(6L);
+        Metrics mergeStep = g.inject(rows).unfold().mergeV().profile().next().getMetrics(2);
+        assertThat((String) mergeStep.getNested().iterator().next().getAnnotation("query")).contains("UPSERT");
+
+        Map<Object, Object> edge = new HashMap<>();
+        edge.put(T.label, "knows");
+        edge.put(Direction.OUT, vertices.get(0).id());
+        edge.put(Direction.IN, vertices.get(1).id());
+        Map<Object, Object> weight = new HashMap<>();
+        weight.put("weight", 0.5);
+        assertThat(steps(g.inject(edge).mergeE())).last().isInstanceOf(ArangoDBMergeEdgeStep.class);
+        List<Edge> edges = g.inject(edge, edge).mergeE().option(Merge.onMatch, weight).toList();
+        assertThat(edges).hasSize(2);
+        assertThat(edges.get(1).id()).isEqualTo(edges.get(0).id());
+        assertThat(g.V(vertices.get(0).id()).outE("knows").count().next()).isEqualTo(3L);
+        assertThat(g.E(edges.get(0).id()).values("weight").toList()).containsExactly(0.5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldMergeAllMatchingVertices() {
+        g.addV("person").property("name", "twin").addV("person").property("name", "twin").iterate();
+        Map<Object, Object> search = new HashMap<>();
+        search.put(T.label, "person");
+        search.put("name", "twin");
+        Map<Object, Object> onMatch = new HashMap<>();
+        onMatch.put("seen", true);
+        // without a unique index the search can match several vertices, which UPSERT would not all update
+        List<Vertex> vertices = g.inject(search, search).mergeV().option(Merge.onMatch, onMatch).toList();
+        assertThat(vertices).hasSize(4);
+        assertThat(vertices.stream().map(Vertex::id).distinct().count()).isEqualTo(2L);
+        assertThat(g.V().has("seen", true).count().next()).isEqualTo(2L);
+        assertThat(g.V().count().next()).isEqualTo(2L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldRecordQueryStatsInProfile() {
+        TraversalMetrics metrics = g.V().has("name", "marko").out("knows").profile().next();
+        Metrics graphStep = metrics.getMetrics(0);
+        assertThat(graphStep.getNested()).hasSize(1);
+        Metrics aql = graphStep.getNested().iterator().next();
+        assertThat(aql.getName()).isEqualTo("AQL");
+        assertThat((String) aql.getAnnotation("query")).contains("FILTER");
+        assertThat(aql.getAnnotations()).containsKeys("executions", "scannedFull", "scannedIndex", "filtered", "peakMemoryUsage");
+        assertThat(aql.getAnnotation("executions")).isEqualTo(1L);
+        assertThat(aql.getAnnotation("nodes")).isNull();
+        assertThat(metrics.getMetrics(1).getNested()).hasSize(1);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldProfileQueriesOnServer() {
+        TraversalMetrics metrics = g.V().has("name", "marko").out("knows").profile().next();
+        Metrics aql = metrics.getMetrics(1).getNested().iterator().next();
+        assertThat(aql.getAnnotation("nodes")).isInstanceOf(List.class);
+        assertThat((List<?>) aql.getAnnotation("nodes")).isNotEmpty();
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldExplainAql() {
+        assertThat(g.V().has("name", "marko").explain().toString()).contains("aql[FOR d IN @@c");
+        List<Step<?, ?>> steps = steps(g.V().has("name", "marko").out());
+        assertThat(steps.get(0).toString()).contains("aql[");
+        assertThat(steps.get(1).toString()).doesNotContain("aql[");
+
+        List<AqlExplanation> explanations = ((ArangoDBGraph) graph).explainAql(g.V().has("name", "marko").count());
+        assertThat(explanations).hasSize(1);
+        AqlExplanation explanation = explanations.get(0);
+        assertThat(explanation.getQuery().getBindVars()).containsValue("marko");
+        assertThat(explanation.getNodes()).contains("EnumerateCollectionNode");
+        assertThat(explanation.getIndexes()).isEmpty();
+        assertThat(explanation.getEstimatedCost()).isPositive();
+        assertThat(((ArangoDBGraph) graph).explainAql(g.V().out())).hasSize(1);
+        assertThat(g.V().has("name", "marko").count().next()).isEqualTo(1L);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldBindValuesOfAdjacentElementQueries() {
+        Vertex marko = g.V().has("name", "marko").next();
+        assertThat(IteratorUtils.list(marko.vertices(Direction.OUT, "knows"))).extracting(it -> it.value("name"))
+                .containsExactlyInAnyOrder("vadas", "josh");
+        assertThat(IteratorUtils.list(marko.edges(Direction.BOTH))).hasSize(3);
+        assertThat(IteratorUtils.list(marko.vertices(Direction.OUT, "knows\"] RETURN v //"))).isEmpty();
+        assertThat(IteratorUtils.list(graph.vertices(marko.id()))).containsExactly(marko);
+        assertThat(IteratorUtils.list(graph.vertices())).hasSize(6);
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldTraverseConcurrentBatches() {
+        assertThat(g.V().out().values("name").toList()).containsExactlyInAnyOrder("lop", "vadas", "josh", "ripple", "lop", "lop");
+        assertThat(g.V().both().both().toList()).hasSize(30);
+        assertThat(g.V().outE().count().next()).isEqualTo(6L);
+        assertThat(g.V().has("name", "marko").out().out().path().by("name").toList()).hasSize(2);
+        assertThat(g.V().out().limit(1).toList()).hasSize(1);
+        assertThat(g.V().out().profile().next().getMetrics(1).getNested()).isNotEmpty();
+
+        ArangoDBGraph arangoGraph = (ArangoDBGraph) graph;
+        ArangoDBVertex marko = (ArangoDBVertex) g.V().has("name", "marko").next();
+        assertThat(ArangoDBGraphClient.join(arangoGraph.getClient().readVertexAsync(marko.elementId())).getLabel())
+                .isEqualTo("person");
+        assertThat(ArangoDBGraphClient.join(arangoGraph.getClient().executeAsync("RETURN \"a\"", null))).containsExactly("a");
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldStreamQueriesWithCursorOptions() {
+        assertThat(g.V().toList()).hasSize(6);
+        assertThat(g.E().hasLabel("knows").count().next()).isEqualTo(2L);
+        assertThat(g.with(ArangoDBCursorOptions.stream, false).with(ArangoDBCursorOptions.batchSize, 1).V().out().toList()).hasSize(6);
+        assertThat(g.with(ArangoDBCursorOptions.ttl, 60).with(ArangoDBCursorOptions.fillBlockCache, false).V().values("name").toList())
+                .hasSize(6);
+        assertThat(g.V().profile().next().getMetrics(0).getNested()).hasSize(1);
+
+        CursorOptions options = ArangoDBCursorOptions.of(g.with(ArangoDBCursorOptions.batchSize, 10).with(ArangoDBCursorOptions.memoryLimit, 1 << 20).V().asAdmin());
+        assertThat(options.getBatchSize()).isEqualTo(10);
+        assertThat(options.getMemoryLimit()).isEqualTo(1L << 20);
+        assertThat(options.getStream()).isNull();
+        assertThat(new CursorOptions().batchSize(2).ttl(5).merge(options).getBatchSize()).isEqualTo(10);
+        assertThat(new CursorOptions().batchSize(2).ttl(5).merge(options).getTtl()).isEqualTo(5);
+        assertThat(ArangoDBCursorOptions.of(g.V().asAdmin())).isNull();
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldInsertElementsWithAllProperties() {
+        Vertex v = graph.addVertex(T.label, "person", "name", "x", "age", 3);
+        assertThat(g.V(v.id()).valueMap("name", "age").next()).containsOnly(
+                entry("name", Arrays.asList("x")), entry("age", Arrays.asList(3)));
+        v.property(VertexProperty.Cardinality.single, "name", "y", "since", 2010, "acl", "public");
+        assertThat(g.V(v.id()).properties("name").valueMap().next()).containsOnly(entry("since", 2010), entry("acl", "public"));
+        assertThat(g.V(v.id()).values("name").next()).isEqualTo("y");
+        v.property(VertexProperty.Cardinality.single, "name", "w", "since", 2011);
+        assertThat(g.V(v.id()).properties("name").valueMap().next()).containsOnly(entry("since", 2011));
+        v.property("name", "u");
+        assertThat(g.V(v.id()).properties("name").properties().toList()).isEmpty();
+        assertThat(g.V(v.id()).values("name").toList()).containsExactly("u");
+
+        Vertex marko = g.V().has("name", "marko").next();
+        Edge e = marko.addEdge("knows", v, "weight", 0.5, "year", 2020);
+        assertThat(g.E(e.id()).valueMap().next()).containsOnly(entry("weight", 0.5), entry("year", 2020));
+
+        long count = g.V().count().next();
+        assertThatThrownBy(() -> graph.addVertex(T.label, "person", "name", "z", "bad", new Object()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(g.V().count().next()).isEqualTo(count);
+    }
+}
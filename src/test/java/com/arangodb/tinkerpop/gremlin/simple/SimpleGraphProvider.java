@@ -3,6 +3,7 @@ package com.arangodb.tinkerpop.gremlin.simple;
 import com.arangodb.tinkerpop.gremlin.TestGraphProvider;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
 import com.arangodb.tinkerpop.gremlin.utils.ArangoDBConfigurationBuilder;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
 
 public class SimpleGraphProvider extends TestGraphProvider {
 
@@ -13,4 +14,25 @@ public class SimpleGraphProvider extends TestGraphProvider {
                 .graphClass(SimpleTestGraph.class);
     }
 
+    @Override
+    protected void configureDataDefinitions(ArangoDBConfigurationBuilder builder, Class<?> test, String testMethodName, LoadGraphWith.GraphData loadGraphWith) {
+        if (testMethodName.startsWith("shouldSearchText")) {
+            builder
+                    .vertexSearchProperties("name")
+                    .searchWaitForSync(true);
+        } else if (testMethodName.startsWith("shouldMutateSearchedElements")) {
+            builder.vertexSearchProperties("name");
+        } else if (testMethodName.startsWith("shouldFilterByGeo")) {
+            builder.vertexGeoProperties("location");
+        } else if (testMethodName.startsWith("shouldProfileQueries")) {
+            builder.profileQueries(true);
+        } else if (testMethodName.startsWith("shouldTraverseConcurrent")) {
+            builder
+                    .traversalBatchSize(2)
+                    .traversalConcurrency(2);
+        } else if (testMethodName.startsWith("shouldStreamQueries")) {
+            builder.queryBatchSize(2);
+        }
+    }
+
 }